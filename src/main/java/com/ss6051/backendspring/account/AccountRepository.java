@@ -2,6 +2,18 @@ package com.ss6051.backendspring.account;
 
 import com.ss6051.backendspring.global.domain.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
+
+    @Query("select a.membershipVersion from Account a where a.id = :id")
+    Optional<Long> findMembershipVersion(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Account a set a.membershipVersion = a.membershipVersion + 1 where a.id = :id")
+    int incrementMembershipVersion(@Param("id") Long id);
 }
@@ -1,33 +1,36 @@
 package com.ss6051.backendspring.account;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.ss6051.backendspring.account.domain.AuthTokens;
 import com.ss6051.backendspring.account.dto.KakaoAccessTokenDto;
 import com.ss6051.backendspring.account.dto.KakaoAccountTokenDto;
+import com.ss6051.backendspring.account.dto.LoginLatencyStatsDTO;
 import com.ss6051.backendspring.account.dto.LoginResponseDto;
+import com.ss6051.backendspring.account.tool.AccountRegistrar;
 import com.ss6051.backendspring.account.tool.AuthTokensGenerator;
+import com.ss6051.backendspring.account.tool.KakaoOAuthClient;
+import com.ss6051.backendspring.account.tool.MembershipVersionCache;
+import com.ss6051.backendspring.account.tool.PrincipalCache;
+import com.ss6051.backendspring.account.tool.RefreshTokenManager;
 import com.ss6051.backendspring.global.domain.Account;
+import com.ss6051.backendspring.global.domain.AccountPrincipal;
+import com.ss6051.backendspring.global.domain.StoreRoleMap;
 import com.ss6051.backendspring.global.exception.CustomException;
 import com.ss6051.backendspring.global.exception.ErrorCode;
+import com.ss6051.backendspring.global.tool.LatencyHistogram;
+import com.ss6051.backendspring.store.dto.StoreRoleDTO;
+import com.ss6051.backendspring.store.repository.StoreAccountRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
-
-import static com.ss6051.backendspring.Secret.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 카카오 로그인을 위한 서비스
@@ -39,104 +42,191 @@ public class AccountService {
 
     private final AccountRepository accountRepository;
     private final AuthTokensGenerator authTokensGenerator;
+    private final StoreAccountRepository storeAccountRepository;
+    private final PrincipalCache principalCache;
+    private final MembershipVersionCache membershipVersionCache;
+    private final RefreshTokenManager refreshTokenManager;
+    private final KakaoOAuthClient kakaoOAuthClient;
+    private final AccountRegistrar accountRegistrar;
+
+    private final LatencyHistogram loginLatency = new LatencyHistogram();
+
+    @Value("${jwt.role-claims.enabled:true}")
+    private boolean roleClaimsEnabled; // 접근 토큰에 매장별 역할 클레임을 담을지 여부
 
     /**
-     * 카카오 서버에 인가 코드로 토큰 요청을 위한 HttpEntity 생성
+     * 로그인 토큰을 발급한다. 역할 클레임을 사용하면 DB의 현재 매장별 역할과 소속 버전을 접근 토큰에 담는다.
      *
-     * @param code FE에서 받아온 인가 코드
-     * @return {@code HttpEntity<MultiValueMap<String, String>>} Http 요청을 위한 HttpEntity
+     * @param accountId 계정 ID
+     * @return {@code AuthTokens} 접근 토큰과 refresh token
      */
-    private static HttpEntity<MultiValueMap<String, String>> createKakaoAuthorizeRequestToken(String code) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
-
-        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-        // https://developers.kakao.com/docs/latest/ko/kakaologin/rest-api#request-token-request-body
-        params.add("grant_type", "authorization_code");
-        params.add("client_id", KAKAO_CLIENT_ID);
-        params.add("redirect_uri", KAKAO_REDIRECT_URI);
-        params.add("code", code);
-        params.add("client_secret", KAKAO_CLIENT_SECRET); // Optional
-
-        return new HttpEntity<>(params, headers);
+    public AuthTokens issueTokens(long accountId) {
+        return issueTokens(accountId, refreshTokenManager.issue(accountId));
     }
 
     /**
-     * 카카오 서버에 액세스 토큰으로 사용자 정보 요청을 위한 HttpEntity 생성
+     * refresh token을 새 토큰으로 교체하고 접근 토큰을 다시 발급한다. 카카오 서버를 거치지 않는다.
+     * 이미 사용된 refresh token이면 그 토큰에서 이어진 refresh token을 모두 폐기한다.
      *
-     * @param kakaoAccessToken 카카오 액세스 토큰 값
-     * @return {@code HttpEntity<MultiValueMap<String, String>>} Http 요청을 위한 HttpEntity
+     * @param refreshToken 로그인 또는 이전 재발급에서 받은 refresh token
+     * @return {@code AuthTokens} 새 접근 토큰과 새 refresh token
+     */
+    public AuthTokens refreshTokens(String refreshToken) {
+        RefreshTokenManager.Rotation rotation = refreshTokenManager.rotate(refreshToken);
+        log.debug("refresh token 교체: accountId={}", rotation.accountId());
+        return issueTokens(rotation.accountId(), rotation.refreshToken());
+    }
+
+    private AuthTokens issueTokens(long accountId, String refreshToken) {
+        if (!roleClaimsEnabled) {
+            return authTokensGenerator.generate(Long.toString(accountId), refreshToken);
+        }
+        long version = membershipVersionCache.load(accountId);
+        return authTokensGenerator.generate(Long.toString(accountId), loadStoreRoles(accountId), version, refreshToken);
+    }
+
+    /**
+     * 역할 클레임이 담긴 접근 토큰만 다시 발급한다. 소속 버전이 바뀐 토큰을 교체할 때 사용한다.
+     */
+    public String reissueAccessToken(long accountId) {
+        long version = membershipVersionCache.load(accountId);
+        return authTokensGenerator.generateAccessToken(Long.toString(accountId), loadStoreRoles(accountId), version);
+    }
+
+    // 소속 버전을 먼저 읽고 역할을 읽는다 - 그 사이 역할이 바뀌면 토큰이 이전 버전을 담아 다음 요청에서 재발급된다
+    private StoreRoleMap loadStoreRoles(long accountId) {
+        return StoreRoleMap.of(storeAccountRepository.findStoreRolesByAccountId(accountId).stream()
+                .collect(Collectors.toMap(StoreRoleDTO::storeId, StoreRoleDTO::role, (a, b) -> a)));
+    }
+
+    /**
+     * 계정의 매장 소속/역할이 바뀌었음을 알린다. 캐시된 요약 정보를 무효화하고 소속 버전을 올려
+     * 이전에 발급된 접근 토큰의 역할 클레임이 더 이상 사용되지 않도록 한다.
+     */
+    public void onMembershipChanged(long accountId) {
+        principalCache.invalidate(accountId);
+        membershipVersionCache.increment(accountId);
+    }
+
+    /**
+     * 현재 소속 버전을 조회한다. 짧은 시간 동안 캐시된 값일 수 있다.
      */
-    private static HttpEntity<MultiValueMap<String, String>> createKakaoAccountInfoRequestToken(String kakaoAccessToken) {
-        // https://developers.kakao.com/docs/latest/ko/kakaologin/rest-api#req-user-info-request-header
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Authorization", "Bearer " + kakaoAccessToken);
-        headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
+    public long getMembershipVersion(long accountId) {
+        return membershipVersionCache.get(accountId);
+    }
 
-        return new HttpEntity<>(headers);
+    /**
+     * 캐시된 요약 정보를 버리고 DB에서 다시 불러온다.
+     */
+    public AccountPrincipal reloadPrincipal(long accountId) {
+        principalCache.invalidate(accountId);
+        return findPrincipal(accountId);
     }
 
     /**
-     * 공용 ObjectMapper 생성
+     * 인증된 사용자의 요약 정보를 조회한다. 캐시에 있으면 DB에 접근하지 않는다.
      *
-     * @return ObjectMapper
+     * @param accountId 계정 ID
+     * @return {@code AccountPrincipal} 계정 ID, 닉네임, 매장별 역할
      */
-    private static ObjectMapper getObjectMapper() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        return objectMapper;
+    // 캐시 적중 시 DB 커넥션도 잡지 않도록 트랜잭션을 열지 않는다
+    public AccountPrincipal findPrincipal(long accountId) {
+        AccountPrincipal cached = principalCache.get(accountId);
+        if (cached != null) {
+            return cached;
+        }
+        long cacheVersion = principalCache.version();
+
+        Account account = accountRepository.findById(accountId).orElseThrow(() -> {
+            log.error("findPrincipal() error: entity not found by kakaoId={}", accountId);
+            return new CustomException(ErrorCode.ACCOUNT_NOT_FOUND, Long.toString(accountId));
+        });
+        AccountPrincipal principal = new AccountPrincipal(accountId, account.getNickname(), loadStoreRoles(accountId));
+        principalCache.put(principal, cacheVersion);
+        return principal;
     }
 
     /**
      * 카카오 사용자 정보 가져오기
+     * 카카오 서버 호출은 트랜잭션 밖에서 하고, 계정 조회/생성만 짧은 트랜잭션으로 처리한다.
+     * 카카오 응답이 느려져도 로그인 요청이 DB 커넥션을 잡고 있지 않으므로 다른 API는 영향을 받지 않는다.
      *
      * @param code 카카오 액세스 토큰 값
      * @return {@code LoginResponseDto} 사용자 정보
      */
-    @Transactional
     public LoginResponseDto kakaoLogin(String code) {
-        // 1. 인가 코드 -> 액세스 토큰 요청
-        KakaoAccessTokenDto kakaoAccessToken = getKakaoAccessToken(code);
-
-        // 2. 액세스 토큰 -> 사용자 정보 요청
-        KakaoAccountTokenDto kakaoAccountTokenDto = getKakaoInfo(kakaoAccessToken.getAccess_token());
-
-        // 3. 사용자 정보로 회원가입 및 로그인 처리
-        Long kakaoId = kakaoAccountTokenDto.getId();
-        AuthTokens authtokens = authTokensGenerator.generate(kakaoId.toString());
-
-        LoginResponseDto loginResponseDto = LoginResponseDto.builder()
-                .id(kakaoId)
-                .nickname(kakaoAccountTokenDto.getKakaoAccount().getProfile().getNickname())
-                .profile_image_url(kakaoAccountTokenDto.getKakaoAccount().getProfile().getProfile_image_url())
-                .thumbnail_image_url(kakaoAccountTokenDto.getKakaoAccount().getProfile().getThumbnail_image_url())
-                .token(authtokens)
-                .build();
-
-        // 기존 회원 여부 검사; 회원 가입 처리
-        Optional<Account> existAccount = accountRepository.findById(kakaoId);
+        long start = System.nanoTime();
         try {
-            // 신규 회원 가입 처리
-            if (existAccount.isEmpty()) {
-                Account newAccount = Account.builder()
-                        .id(loginResponseDto.getId())
-                        .profile_image_url(loginResponseDto.getProfile_image_url())
-                        .thumbnail_image_url(loginResponseDto.getThumbnail_image_url())
-                        .nickname(loginResponseDto.getNickname())
-                        .build();
-                accountRepository.save(newAccount);
-                log.info("신규 회원 가입처리: id={}, nickname={}", newAccount.getId(), newAccount.getNickname());
-
+            // 1. 인가 코드 -> 액세스 토큰 요청
+            KakaoAccessTokenDto kakaoAccessToken = kakaoOAuthClient.requestAccessToken(code);
+
+            // 2. 액세스 토큰 -> 사용자 정보 요청
+            KakaoAccountTokenDto kakaoAccountTokenDto = kakaoOAuthClient.requestAccountInfo(kakaoAccessToken.getAccess_token());
+
+            // 3. 사용자 정보로 회원가입 및 로그인 처리
+            Long kakaoId = kakaoAccountTokenDto.getId();
+
+            LoginResponseDto loginResponseDto = LoginResponseDto.builder()
+                    .id(kakaoId)
+                    .nickname(kakaoAccountTokenDto.getKakaoAccount().getProfile().getNickname())
+                    .profile_image_url(kakaoAccountTokenDto.getKakaoAccount().getProfile().getProfile_image_url())
+                    .thumbnail_image_url(kakaoAccountTokenDto.getKakaoAccount().getProfile().getThumbnail_image_url())
+                    .build();
+
+            try {
+                // 기존 회원 여부 검사; 신규 회원 가입 처리
+                try {
+                    accountRegistrar.registerIfAbsent(loginResponseDto);
+                } catch (DataIntegrityViolationException e) {
+                    // 같은 사용자의 동시 첫 로그인 - 다른 요청이 먼저 가입 처리했다
+                    log.info("동시 가입 요청으로 기존 계정 사용: id={}", kakaoId);
+                }
+                // 가입 처리 후 발급해야 역할 클레임에 현재 소속 버전이 담긴다
+                loginResponseDto.setToken(issueTokens(kakaoId));
+                log.info("회원 로그인: id={}, nickname={}", loginResponseDto.getId(), loginResponseDto.getNickname());
+                return loginResponseDto;
+            } catch (Exception e) {
+                log.error("회원 가입/로그인 실패: id={}, nickname={}", loginResponseDto.getId(), loginResponseDto.getNickname(), e);
+                throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
             }
-            log.info("회원 로그인: id={}, nickname={}", loginResponseDto.getId(), loginResponseDto.getNickname());
-            return loginResponseDto;
-        } catch (Exception e) {
-            log.error("회원 가입/로그인 실패: id={}, nickname={}", loginResponseDto.getId(), loginResponseDto.getNickname(), e);
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+        } finally {
+            loginLatency.record(System.nanoTime() - start);
         }
     }
 
+    /**
+     * 로그인 소요 시간 통계를 조회한다. 로그인 전체와 카카오 서버 호출 각각의 백분위를 포함한다.
+     *
+     * @return {@code LoginLatencyStatsDTO} 로그인 소요 시간 통계
+     */
+    public LoginLatencyStatsDTO getLoginLatencyStats() {
+        return new LoginLatencyStatsDTO(loginLatency.stats(),
+                kakaoOAuthClient.tokenLatencyStats(),
+                kakaoOAuthClient.userInfoLatencyStats());
+    }
+
+    /**
+     * DB를 조회하지 않고 계정 참조만 얻는다. 연관관계 설정에만 사용하며, 계정이 없으면 저장 시 외래 키 제약으로 실패한다.
+     *
+     * @param accountId 계정 ID
+     * @return {@code Account} 지연 로딩 프록시
+     */
+    public Account getAccountReference(long accountId) {
+        return accountRepository.getReferenceById(accountId);
+    }
+
+    /**
+     * 여러 계정을 한 번에 조회한다. 없는 계정은 결과에서 빠지며 예외를 던지지 않는다.
+     *
+     * @param accountIds 계정 ID 목록
+     * @return {@code Map<Long, Account>} 계정 ID별 계정
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Account> findAccounts(Collection<Long> accountIds) {
+        return accountRepository.findAllById(accountIds).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+    }
+
     /**
      * Account 객체를 ID로 조회
      *
@@ -155,60 +245,4 @@ public class AccountService {
         account.getStoreAccounts().size();
         return account;
     }
-
-    /**
-     * 카카오 서버에 액세스 토큰으로 사용자 정보 요청
-     *
-     * @param kakaoAccessToken 카카오 액세스 토큰 값
-     * @return {@code KakaoAccountTokenDto} 사용자 정보
-     */
-    private KakaoAccountTokenDto getKakaoInfo(String kakaoAccessToken) {
-        // 카카오 서버에 토큰으로 사용자 정보 요청
-        HttpEntity<MultiValueMap<String, String>> kakaoAccountInfoRequest = createKakaoAccountInfoRequestToken(kakaoAccessToken);
-
-        // 카카오 서버로부터 받은 사용자 정보를 저장
-        ResponseEntity<String> accountInfoResponse = new RestTemplate().exchange(KAKAO_USER_INFO_URI, HttpMethod.POST, kakaoAccountInfoRequest, String.class);
-
-        // 파싱
-        ObjectMapper objectMapper = getObjectMapper();
-        KakaoAccountTokenDto kakaoAccountTokenDto;
-        try {
-            kakaoAccountTokenDto = objectMapper.readValue(accountInfoResponse.getBody(), KakaoAccountTokenDto.class);
-        } catch (JsonProcessingException e) {
-            log.error("getKakaoInfo() error: accessToken={}", kakaoAccessToken, e);
-            throw new CustomException(ErrorCode.ACCOUNT_KAKAO_INFO_FAILED, e.getMessage());
-        }
-        return kakaoAccountTokenDto;
-    }
-
-    /**
-     * 카카오 서버에 인가 코드로 토큰 요청
-     *
-     * @param code FE에서 받아온 인가 코드
-     * @return KakaoAccessTokenDto
-     */
-    private KakaoAccessTokenDto getKakaoAccessToken(String code) {
-        // 카카오 서버에 인가 코드로 토큰 요청
-        HttpEntity<MultiValueMap<String, String>> kakaoTokenRequest = createKakaoAuthorizeRequestToken(code);
-
-
-        KakaoAccessTokenDto kakaoAccessTokenDto;
-        try {
-            // 카카오 서버로부터 받은 토큰을 저장
-            ResponseEntity<String> accessTokenResponse = new RestTemplate().exchange(KAKAO_TOKEN_URI, HttpMethod.POST, kakaoTokenRequest, String.class);
-
-            // 받은 토큰을 KakaoTokenDto로 파싱
-            ObjectMapper objectMapper = getObjectMapper();
-
-            kakaoAccessTokenDto = objectMapper.readValue(accessTokenResponse.getBody(), KakaoAccessTokenDto.class);
-        } catch (HttpClientErrorException e) {
-            log.error("getKakaoAccessToken() error: code={}, message={}", code, e.getMessage());
-            throw new CustomException(ErrorCode.ACCOUNT_KAKAO_LOGIN_FAILED, e.getResponseBodyAsString());
-        } catch (JsonProcessingException e) {
-            log.error("getKakaoAccessToken() error: code={}", code, e);
-            throw new CustomException(ErrorCode.ACCOUNT_KAKAO_LOGIN_FAILED, e.getMessage());
-        }
-
-        return kakaoAccessTokenDto;
-    }
 }
@@ -0,0 +1,53 @@
+package com.ss6051.backendspring.account;
+
+import com.ss6051.backendspring.account.dto.KakaoClientStatsDTO;
+import com.ss6051.backendspring.account.dto.LoginLatencyStatsDTO;
+import com.ss6051.backendspring.account.tool.KakaoOAuthClient;
+import com.ss6051.backendspring.global.dto.JwtVerificationStatsDTO;
+import com.ss6051.backendspring.global.tool.VerifiedTokenCache;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/auth")
+@Slf4j
+@RequiredArgsConstructor
+public class AuthController {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccountService accountService;
+    private final KakaoOAuthClient kakaoOAuthClient;
+
+    @Operation(summary = "JWT 검증 통계 조회",
+            description = "검증된 JWT 캐시의 적중/미스 횟수와 적중률, 서명 검증 횟수와 평균 소요 시간, 현재 캐시 항목 수를 조회합니다. 관리자만 조회할 수 있습니다.",
+            tags = {"auth"}
+    )
+    @GetMapping("/jwt/stats")
+    public ResponseEntity<JwtVerificationStatsDTO> getJwtVerificationStats() {
+        return ResponseEntity.ok(verifiedTokenCache.stats());
+    }
+
+    @Operation(summary = "로그인 소요 시간 통계 조회",
+            description = "서버 시작 이후 카카오 로그인 전체, 카카오 토큰 요청, 카카오 사용자 정보 요청 각각의 횟수와 50/90/99번째 백분위, 최댓값(마이크로초)을 조회합니다. 관리자만 조회할 수 있습니다.",
+            tags = {"auth"}
+    )
+    @GetMapping("/login/stats")
+    public ResponseEntity<LoginLatencyStatsDTO> getLoginLatencyStats() {
+        return ResponseEntity.ok(accountService.getLoginLatencyStats());
+    }
+
+    @Operation(summary = "카카오 서버 호출 보호 장치 상태 조회",
+            description = "카카오 서버 호출의 서킷 브레이커 상태(CLOSED/OPEN/HALF_OPEN), 열림 횟수, 거절 횟수, 반열림 시험 호출 성공/실패 횟수와 남은 동시 호출 자리 수, 동시 호출 수 제한으로 거절한 횟수를 조회합니다. 관리자만 조회할 수 있습니다.",
+            tags = {"auth"}
+    )
+    @GetMapping("/kakao/stats")
+    public ResponseEntity<KakaoClientStatsDTO> getKakaoClientStats() {
+        return ResponseEntity.ok(kakaoOAuthClient.stats());
+    }
+
+}
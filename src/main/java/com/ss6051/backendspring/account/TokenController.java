@@ -0,0 +1,53 @@
+package com.ss6051.backendspring.account;
+
+import com.ss6051.backendspring.account.domain.AuthTokens;
+import com.ss6051.backendspring.account.dto.TokenRefreshDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/oauth2/token")
+@Slf4j
+@RequiredArgsConstructor
+public class TokenController {
+
+    private final AccountService accountService;
+
+    /**
+     * refresh token으로 토큰 재발급
+     * @param dto refresh token
+     * @return {@code ResponseEntity<AuthTokens>} 새 접근 토큰과 새 refresh token
+     */
+    @Operation(summary = "토큰 재발급",
+            description = "로그인 또는 이전 재발급에서 받은 refresh token으로 새 접근 토큰과 새 refresh token을 발급합니다. " +
+                    "refresh token은 한 번만 사용할 수 있으며, 이미 사용된 refresh token으로 요청하면 그 토큰에서 이어진 refresh token이 모두 폐기되어 다시 로그인해야 합니다.",
+            tags = {"auth"},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "토큰 재발급 성공",
+                            content = @Content(mediaType = "application/json", examples = {
+                                    @ExampleObject(value = """
+                                            {
+                                              "accessToken": "eyJhbGciOiJIUzUxMiJ9.eyJzdWIiOiIxIiwiZXhwIjoxNzI0MDAwMDAwfQ.signature",
+                                              "refreshToken": "Q2h1bmtlZC1yYW5kb20tdG9rZW4tMzItYnl0ZXMtYmFzZTY0",
+                                              "grantType": "Bearer",
+                                              "expiresIn": 3600,
+                                              "refreshTokenExpiresIn": 1209600
+                                            }
+                                            """)})),
+                    @ApiResponse(responseCode = "400", description = "유효하지 않거나 만료되었거나 이미 사용된 refresh token")
+            })
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthTokens> refresh(@RequestBody TokenRefreshDTO dto) {
+        return ResponseEntity.ok(accountService.refreshTokens(dto.refreshToken()));
+    }
+
+}
@@ -10,4 +10,5 @@ public class AuthTokens {
     private String refreshToken;
     private String grantType;
     private Long expiresIn;
+    private Long refreshTokenExpiresIn;
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.ss6051.backendspring.account.domain;
+
+/**
+ * 저장소에 보관되는 refresh token 정보. 토큰 원문 대신 SHA-256 해시만 저장한다.
+ *
+ * @param tokenHash 토큰 원문의 SHA-256 해시
+ * @param accountId 토큰을 발급받은 계정 ID
+ * @param familyId  로그인 한 번에서 시작된 토큰 계열 ID. 교체된 토큰은 같은 계열을 이어받는다
+ * @param expiresAt 만료 시각(epoch ms)
+ * @param used      이미 교체에 사용되었는지 여부. 사용된 토큰이 다시 오면 탈취로 보고 계열 전체를 폐기한다
+ */
+public record RefreshToken(String tokenHash, long accountId, String familyId, long expiresAt, boolean used) {
+
+    public RefreshToken markUsed() {
+        return new RefreshToken(tokenHash, accountId, familyId, expiresAt, true);
+    }
+}
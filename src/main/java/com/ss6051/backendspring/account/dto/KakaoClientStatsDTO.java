@@ -0,0 +1,15 @@
+package com.ss6051.backendspring.account.dto;
+
+import com.ss6051.backendspring.global.dto.CircuitBreakerStatsDTO;
+
+/**
+ * 카카오 서버 호출 보호 장치 통계
+ *
+ * @param circuitBreaker    서킷 브레이커 상태와 통계
+ * @param bulkheadAvailable 남은 동시 호출 자리 수
+ * @param bulkheadRejected  동시 호출 수 제한으로 거절한 호출 수
+ */
+public record KakaoClientStatsDTO(CircuitBreakerStatsDTO circuitBreaker,
+                                  int bulkheadAvailable,
+                                  long bulkheadRejected) {
+}
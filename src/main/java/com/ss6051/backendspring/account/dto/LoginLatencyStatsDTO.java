@@ -0,0 +1,15 @@
+package com.ss6051.backendspring.account.dto;
+
+import com.ss6051.backendspring.global.dto.LatencyStatsDTO;
+
+/**
+ * 카카오 로그인 소요 시간 통계
+ *
+ * @param login         로그인 요청 전체
+ * @param kakaoToken    카카오 토큰 발급 요청
+ * @param kakaoUserInfo 카카오 사용자 정보 요청
+ */
+public record LoginLatencyStatsDTO(LatencyStatsDTO login,
+                                   LatencyStatsDTO kakaoToken,
+                                   LatencyStatsDTO kakaoUserInfo) {
+}
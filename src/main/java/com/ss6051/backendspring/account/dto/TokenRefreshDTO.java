@@ -0,0 +1,4 @@
+package com.ss6051.backendspring.account.dto;
+
+public record TokenRefreshDTO(String refreshToken) {
+}
@@ -0,0 +1,43 @@
+package com.ss6051.backendspring.account.tool;
+
+import com.ss6051.backendspring.account.AccountRepository;
+import com.ss6051.backendspring.account.dto.LoginResponseDto;
+import com.ss6051.backendspring.global.domain.Account;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 카카오 로그인 사용자의 계정을 찾고, 없으면 새로 만든다.
+ * 카카오 서버 호출이 모두 끝난 뒤 이 부분만 짧은 트랜잭션으로 처리해, 카카오 응답을 기다리는 동안 DB 커넥션을 잡지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountRegistrar {
+
+    private final AccountRepository accountRepository;
+
+    /**
+     * 계정이 없으면 카카오 사용자 정보로 새 계정을 만든다.
+     *
+     * @param loginResponseDto 카카오 사용자 정보
+     * @return 새로 만들었으면 true, 이미 있으면 false
+     */
+    @Transactional
+    public boolean registerIfAbsent(LoginResponseDto loginResponseDto) {
+        if (accountRepository.existsById(loginResponseDto.getId())) {
+            return false;
+        }
+        Account newAccount = Account.builder()
+                .id(loginResponseDto.getId())
+                .profile_image_url(loginResponseDto.getProfile_image_url())
+                .thumbnail_image_url(loginResponseDto.getThumbnail_image_url())
+                .nickname(loginResponseDto.getNickname())
+                .build();
+        accountRepository.save(newAccount);
+        log.info("신규 회원 가입처리: id={}, nickname={}", newAccount.getId(), newAccount.getNickname());
+        return true;
+    }
+}
@@ -1,6 +1,7 @@
 package com.ss6051.backendspring.account.tool;
 
 import com.ss6051.backendspring.account.domain.AuthTokens;
+import com.ss6051.backendspring.global.domain.StoreRoleMap;
 import com.ss6051.backendspring.global.tool.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -12,24 +13,38 @@ import java.util.Date;
 public class AuthTokensGenerator {
     private static final String BEARER_TYPE = "Bearer";
     private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 60;    //1시간
-    private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 24 * 14;  // 14일
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenManager refreshTokenManager;
 
-    //id 받아 Access Token 생성
-    public AuthTokens generate(String uid) {
+    //id와 refresh token을 받아 Access Token 생성
+    public AuthTokens generate(String uid, String refreshToken) {
         long now = (new Date()).getTime();
         Date accessTokenExpiredAt = new Date(now + ACCESS_TOKEN_EXPIRE_TIME);
-        Date refreshTokenExpiredAt = new Date(now + REFRESH_TOKEN_EXPIRE_TIME);
 
         String accessToken = jwtTokenProvider.accessTokenGenerate(uid, accessTokenExpiredAt);
-        String refreshToken = jwtTokenProvider.refreshTokenGenerate(refreshTokenExpiredAt);
+        return build(accessToken, refreshToken);
+    }
+
+    // id와 매장별 역할, 계정 소속 버전을 받아 역할 클레임이 담긴 Access Token 생성
+    public AuthTokens generate(String uid, StoreRoleMap storeRoles, long membershipVersion, String refreshToken) {
+        String accessToken = generateAccessToken(uid, storeRoles, membershipVersion);
+        return build(accessToken, refreshToken);
+    }
+
+    // 역할 클레임이 담긴 Access Token만 생성 (소속 버전이 바뀐 토큰 재발급용)
+    public String generateAccessToken(String uid, StoreRoleMap storeRoles, long membershipVersion) {
+        Date accessTokenExpiredAt = new Date((new Date()).getTime() + ACCESS_TOKEN_EXPIRE_TIME);
+        return jwtTokenProvider.accessTokenGenerate(uid, accessTokenExpiredAt, storeRoles, membershipVersion);
+    }
 
+    private AuthTokens build(String accessToken, String refreshToken) {
         return AuthTokens.builder().
                 accessToken(accessToken).
                 refreshToken(refreshToken).
                 grantType(BEARER_TYPE).
                 expiresIn(ACCESS_TOKEN_EXPIRE_TIME / 1000L).
+                refreshTokenExpiresIn(refreshTokenManager.ttlSeconds()).
                 build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,68 @@
+package com.ss6051.backendspring.account.tool;
+
+import com.ss6051.backendspring.account.domain.RefreshToken;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 메모리 refresh token 저장소.
+ * 모든 토큰의 유효 기간이 같으므로 저장 순서가 곧 만료 순서이다. 저장할 때마다 앞쪽의 만료된 토큰을 제거하고,
+ * 최대 크기를 넘으면 가장 먼저 만료될 토큰부터 제거한다(해당 사용자는 다시 로그인해야 한다).
+ * 사용된 토큰도 만료 전까지 남겨 재사용을 감지한다. 서버를 재시작하면 모든 토큰이 사라진다.
+ */
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final int maxSize;
+    private final LinkedHashMap<String, RefreshToken> tokens;
+
+    public InMemoryRefreshTokenStore(int maxSize) {
+        this.maxSize = maxSize;
+        this.tokens = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RefreshToken> eldest) {
+                return size() > InMemoryRefreshTokenStore.this.maxSize;
+            }
+        };
+    }
+
+    @Override
+    public void save(RefreshToken token) {
+        long now = System.currentTimeMillis();
+        synchronized (tokens) {
+            Iterator<RefreshToken> iterator = tokens.values().iterator();
+            while (iterator.hasNext() && iterator.next().expiresAt() <= now) {
+                iterator.remove();
+            }
+            tokens.put(token.tokenHash(), token);
+        }
+    }
+
+    @Override
+    public Optional<RefreshToken> find(String tokenHash) {
+        synchronized (tokens) {
+            return Optional.ofNullable(tokens.get(tokenHash));
+        }
+    }
+
+    @Override
+    public boolean markUsed(String tokenHash) {
+        synchronized (tokens) {
+            RefreshToken token = tokens.get(tokenHash);
+            if (token == null || token.used()) {
+                return false;
+            }
+            tokens.put(tokenHash, token.markUsed()); // 기존 키이므로 저장 순서는 바뀌지 않는다
+            return true;
+        }
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        synchronized (tokens) {
+            tokens.values().removeIf(token -> token.familyId().equals(familyId));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.ss6051.backendspring.account.tool;
+
+import com.ss6051.backendspring.account.domain.RefreshToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DB refresh token 저장소(refresh_token 테이블). 여러 서버가 토큰을 공유해야 할 때 사용한다.
+ * 사용 표시는 조건부 UPDATE 한 번으로 처리하므로 서버가 여러 대여도 한 요청만 교체에 성공한다.
+ * 만료된 토큰은 일정 횟수 저장할 때마다 한 번씩 지운다.
+ */
+@Slf4j
+public class JdbcRefreshTokenStore implements RefreshTokenStore {
+
+    private static final int CLEANUP_INTERVAL = 100; // 저장 몇 번마다 만료된 토큰을 지울지
+
+    private static final RowMapper<RefreshToken> ROW_MAPPER = (rs, rowNum) -> new RefreshToken(
+            rs.getString("token_hash"),
+            rs.getLong("account_id"),
+            rs.getString("family_id"),
+            rs.getLong("expires_at"),
+            rs.getBoolean("used"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicLong saves = new AtomicLong();
+
+    public JdbcRefreshTokenStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * refresh_token 테이블이 없으면 만든다. 엔티티가 아니므로 Hibernate가 만들지 않는다.
+     */
+    public void createTableIfNotExists() {
+        jdbcTemplate.execute("create table if not exists refresh_token ("
+                + "token_hash varchar(64) not null primary key, "
+                + "account_id bigint not null, "
+                + "family_id varchar(36) not null, "
+                + "expires_at bigint not null, "
+                + "used boolean not null)");
+        createIndex("create index refresh_token_family_idx on refresh_token (family_id)");
+        createIndex("create index refresh_token_expires_idx on refresh_token (expires_at)");
+    }
+
+    // 인덱스 IF NOT EXISTS 문법은 DB마다 달라 이미 있으면 실패를 무시한다
+    private void createIndex(String sql) {
+        try {
+            jdbcTemplate.execute(sql);
+        } catch (DataAccessException e) {
+            log.debug("refresh_token 인덱스 생성 건너뜀: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void save(RefreshToken token) {
+        jdbcTemplate.update("insert into refresh_token (token_hash, account_id, family_id, expires_at, used) values (?, ?, ?, ?, ?)",
+                token.tokenHash(), token.accountId(), token.familyId(), token.expiresAt(), token.used());
+        if (saves.incrementAndGet() % CLEANUP_INTERVAL == 0) {
+            int removed = jdbcTemplate.update("delete from refresh_token where expires_at <= ?", System.currentTimeMillis());
+            log.debug("만료된 refresh token 삭제: {}건", removed);
+        }
+    }
+
+    @Override
+    public Optional<RefreshToken> find(String tokenHash) {
+        return jdbcTemplate.query("select token_hash, account_id, family_id, expires_at, used from refresh_token where token_hash = ?",
+                ROW_MAPPER, tokenHash).stream().findFirst();
+    }
+
+    @Override
+    public boolean markUsed(String tokenHash) {
+        return jdbcTemplate.update("update refresh_token set used = true where token_hash = ? and used = false", tokenHash) == 1;
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        jdbcTemplate.update("delete from refresh_token where family_id = ?", familyId);
+    }
+}
@@ -0,0 +1,200 @@
+package com.ss6051.backendspring.account.tool;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ss6051.backendspring.account.dto.KakaoAccessTokenDto;
+import com.ss6051.backendspring.account.dto.KakaoAccountTokenDto;
+import com.ss6051.backendspring.account.dto.KakaoClientStatsDTO;
+import com.ss6051.backendspring.global.dto.LatencyStatsDTO;
+import com.ss6051.backendspring.global.exception.CustomException;
+import com.ss6051.backendspring.global.exception.ErrorCode;
+import com.ss6051.backendspring.global.tool.Bulkhead;
+import com.ss6051.backendspring.global.tool.CircuitBreaker;
+import com.ss6051.backendspring.global.tool.LatencyHistogram;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import static com.ss6051.backendspring.Secret.*;
+
+/**
+ * 카카오 OAuth 서버 호출 클라이언트.
+ * 연결을 재사용(keep-alive)하는 HTTP 클라이언트와 설정을 마친 ObjectMapper를 한 번만 만들어 모든 로그인 요청이 공유한다.
+ * 연결/응답 대기 시간에 제한을 두어 카카오 서버가 느려도 요청 스레드가 무한히 묶이지 않는다.
+ * 카카오 URI는 설정(kakao.token-uri, kakao.user-info-uri)으로 바꿀 수 있어 부하 테스트 시 로컬 대역 서버를 쓸 수 있다.
+ * 동시 호출 수 제한(bulkhead)과 서킷 브레이커로 카카오 서버 장애가 다른 API의 요청 스레드까지 고갈시키지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class KakaoOAuthClient {
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final String tokenUri;
+    private final String userInfoUri;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    private final LatencyHistogram tokenLatency = new LatencyHistogram();
+    private final LatencyHistogram userInfoLatency = new LatencyHistogram();
+
+    public KakaoOAuthClient(@Value("${kakao.token-uri:}") String tokenUri,
+                            @Value("${kakao.user-info-uri:}") String userInfoUri,
+                            @Value("${kakao.http.connect-timeout-ms:2000}") long connectTimeoutMillis,
+                            @Value("${kakao.http.read-timeout-ms:3000}") long readTimeoutMillis,
+                            @Value("${kakao.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                            @Value("${kakao.circuit-breaker.open-seconds:10}") long openSeconds,
+                            @Value("${kakao.circuit-breaker.half-open-probes:1}") int halfOpenProbes,
+                            @Value("${kakao.bulkhead.max-concurrent:20}") int maxConcurrent,
+                            @Value("${kakao.bulkhead.max-wait-ms:0}") long maxWaitMillis) {
+        this.tokenUri = StringUtils.hasText(tokenUri) ? tokenUri : KAKAO_TOKEN_URI;
+        this.userInfoUri = StringUtils.hasText(userInfoUri) ? userInfoUri : KAKAO_USER_INFO_URI;
+
+        // JDK HttpClient는 응답을 다 읽은 연결을 풀에 돌려두고 같은 호스트 요청에 재사용한다
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+        this.restTemplate = new RestTemplate(requestFactory);
+
+        this.circuitBreaker = new CircuitBreaker("kakao", failureThreshold, openSeconds * 1000, halfOpenProbes);
+        this.bulkhead = new Bulkhead(maxConcurrent, maxWaitMillis);
+
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    /**
+     * 카카오 서버에 인가 코드로 토큰 요청
+     *
+     * @param code FE에서 받아온 인가 코드
+     * @return KakaoAccessTokenDto
+     */
+    public KakaoAccessTokenDto requestAccessToken(String code) {
+        return call(tokenUri, createAuthorizeRequest(code), KakaoAccessTokenDto.class,
+                ErrorCode.ACCOUNT_KAKAO_LOGIN_FAILED, tokenLatency);
+    }
+
+    /**
+     * 카카오 서버에 액세스 토큰으로 사용자 정보 요청
+     *
+     * @param kakaoAccessToken 카카오 액세스 토큰 값
+     * @return {@code KakaoAccountTokenDto} 사용자 정보
+     */
+    public KakaoAccountTokenDto requestAccountInfo(String kakaoAccessToken) {
+        return call(userInfoUri, createAccountInfoRequest(kakaoAccessToken), KakaoAccountTokenDto.class,
+                ErrorCode.ACCOUNT_KAKAO_INFO_FAILED, userInfoLatency);
+    }
+
+    /**
+     * 동시 호출 수 제한과 서킷 브레이커를 거쳐 카카오 서버를 호출하고 응답을 파싱한다.
+     * 자리가 없거나 서킷이 열려 있으면 카카오 서버를 호출하지 않고 바로 {@link ErrorCode#ACCOUNT_KAKAO_LOGIN_FAILED}로 실패한다.
+     * 연결 실패, 시간 초과, 5xx 응답, 해석할 수 없는 응답은 서킷 브레이커의 실패로 센다.
+     * 4xx 응답(잘못된 인가 코드 등)은 카카오 서버가 정상 응답한 것이므로 실패로 세지 않는다.
+     */
+    private <T> T call(String uri, HttpEntity<MultiValueMap<String, String>> request, Class<T> responseType,
+                       ErrorCode errorCode, LatencyHistogram latency) {
+        if (!bulkhead.tryAcquire()) {
+            log.warn("카카오 서버 호출 거절 - 동시 호출 수 초과: uri={}", uri);
+            throw new CustomException(ErrorCode.ACCOUNT_KAKAO_LOGIN_FAILED, "kakao bulkhead full");
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            bulkhead.release();
+            throw new CustomException(ErrorCode.ACCOUNT_KAKAO_LOGIN_FAILED, "kakao circuit open");
+        }
+
+        long start = System.nanoTime();
+        boolean healthy = false;
+        try {
+            ResponseEntity<String> response = restTemplate.exchange(uri, HttpMethod.POST, request, String.class);
+            T body = objectMapper.readValue(response.getBody(), responseType);
+            healthy = true;
+            return body;
+        } catch (HttpClientErrorException e) {
+            healthy = true;
+            log.error("Kakao request error: uri={}, message={}", uri, e.getMessage());
+            throw new CustomException(errorCode, e.getResponseBodyAsString());
+        } catch (RestClientException e) { // 연결 실패, 시간 초과, 5xx
+            log.error("Kakao request error: uri={}, message={}", uri, e.getMessage());
+            throw new CustomException(errorCode, e.getMessage());
+        } catch (JsonProcessingException e) {
+            log.error("Kakao response parse error: uri={}", uri, e);
+            throw new CustomException(errorCode, e.getMessage());
+        } finally {
+            if (healthy) {
+                circuitBreaker.onSuccess();
+            } else {
+                circuitBreaker.onFailure();
+            }
+            bulkhead.release();
+            latency.record(System.nanoTime() - start);
+        }
+    }
+
+    public KakaoClientStatsDTO stats() {
+        return new KakaoClientStatsDTO(circuitBreaker.stats(), bulkhead.available(), bulkhead.rejected());
+    }
+
+    public LatencyStatsDTO tokenLatencyStats() {
+        return tokenLatency.stats();
+    }
+
+    public LatencyStatsDTO userInfoLatencyStats() {
+        return userInfoLatency.stats();
+    }
+
+    /**
+     * 카카오 서버에 인가 코드로 토큰 요청을 위한 HttpEntity 생성
+     *
+     * @param code FE에서 받아온 인가 코드
+     * @return {@code HttpEntity<MultiValueMap<String, String>>} Http 요청을 위한 HttpEntity
+     */
+    private static HttpEntity<MultiValueMap<String, String>> createAuthorizeRequest(String code) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
+
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        // https://developers.kakao.com/docs/latest/ko/kakaologin/rest-api#request-token-request-body
+        params.add("grant_type", "authorization_code");
+        params.add("client_id", KAKAO_CLIENT_ID);
+        params.add("redirect_uri", KAKAO_REDIRECT_URI);
+        params.add("code", code);
+        params.add("client_secret", KAKAO_CLIENT_SECRET); // Optional
+
+        return new HttpEntity<>(params, headers);
+    }
+
+    /**
+     * 카카오 서버에 액세스 토큰으로 사용자 정보 요청을 위한 HttpEntity 생성
+     *
+     * @param kakaoAccessToken 카카오 액세스 토큰 값
+     * @return {@code HttpEntity<MultiValueMap<String, String>>} Http 요청을 위한 HttpEntity
+     */
+    private static HttpEntity<MultiValueMap<String, String>> createAccountInfoRequest(String kakaoAccessToken) {
+        // https://developers.kakao.com/docs/latest/ko/kakaologin/rest-api#req-user-info-request-header
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Authorization", "Bearer " + kakaoAccessToken);
+        headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
+
+        return new HttpEntity<>(headers);
+    }
+}
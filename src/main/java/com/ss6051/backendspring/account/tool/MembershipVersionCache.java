@@ -0,0 +1,94 @@
+package com.ss6051.backendspring.account.tool;
+
+import com.ss6051.backendspring.account.AccountRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 계정 ID별 소속 버전 캐시.
+ * 소속 버전은 DB(account.membership_version)에 저장되므로 여러 서버가 같은 값을 본다.
+ * 각 서버는 짧은 만료 시간 동안만 값을 캐시하므로, 다른 서버에서 바뀐 역할은 최대 만료 시간 안에 반영된다.
+ */
+@Component
+public class MembershipVersionCache {
+
+    private final AccountRepository accountRepository;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<Long, Entry> entries;
+
+    public MembershipVersionCache(AccountRepository accountRepository,
+                                  @Value("${jwt.membership-version.cache.max-size:10000}") int maxSize,
+                                  @Value("${jwt.membership-version.cache.ttl-seconds:30}") long ttlSeconds) {
+        this.accountRepository = accountRepository;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > MembershipVersionCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 계정의 현재 소속 버전을 조회한다. 캐시에 없거나 만료되었으면 DB에서 불러온다.
+     *
+     * @return 소속 버전. 계정이 없으면 -1
+     */
+    public long get(long accountId) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry entry = entries.get(accountId);
+            if (entry != null && now - entry.loadedAt() <= ttlNanos) {
+                return entry.version();
+            }
+        }
+
+        long version = load(accountId);
+        synchronized (entries) {
+            entries.put(accountId, new Entry(version, now));
+        }
+        return version;
+    }
+
+    /**
+     * 캐시를 거치지 않고 DB의 소속 버전을 조회한다. 토큰 발급 시 사용한다.
+     *
+     * @return 소속 버전. 계정이 없으면 -1
+     */
+    public long load(long accountId) {
+        return accountRepository.findMembershipVersion(accountId).orElse(-1L);
+    }
+
+    /**
+     * 계정의 소속 버전을 올린다. 이전 버전으로 발급된 토큰의 역할 클레임은 더 이상 사용되지 않는다.
+     * 호출한 트랜잭션 안에서 실행되며, 커밋 이후에도 이 서버의 캐시를 한 번 더 비운다.
+     */
+    public void increment(long accountId) {
+        accountRepository.incrementMembershipVersion(accountId);
+        remove(accountId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(accountId);
+                }
+            });
+        }
+    }
+
+    private void remove(long accountId) {
+        synchronized (entries) {
+            entries.remove(accountId);
+        }
+    }
+
+    private record Entry(long version, long loadedAt) {
+    }
+}
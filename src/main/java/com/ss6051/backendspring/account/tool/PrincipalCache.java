@@ -0,0 +1,102 @@
+package com.ss6051.backendspring.account.tool;
+
+import com.ss6051.backendspring.global.domain.AccountPrincipal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 계정 ID별 인증 사용자 요약 정보({@link AccountPrincipal}) 캐시.
+ * 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터, 만료 시간이 지나면 조회 시점에 제거한다.
+ * 매장 소속이나 역할이 바뀌면 해당 계정의 항목을 무효화한다.
+ */
+@Component
+public class PrincipalCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<Long, Entry> entries;
+
+    // 무효화가 일어날 때마다 증가. 불러오는 도중 무효화된 정보가 캐시에 들어가지 않도록 한다
+    private final AtomicLong version = new AtomicLong();
+
+    public PrincipalCache(@Value("${account.principal.cache.max-size:10000}") int maxSize,
+                          @Value("${account.principal.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > PrincipalCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 정보를 조회한다.
+     *
+     * @return 캐시된 정보. 없거나 만료되었으면 null
+     */
+    public AccountPrincipal get(long accountId) {
+        synchronized (entries) {
+            Entry entry = entries.get(accountId);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.createdAt() > ttlNanos) {
+                entries.remove(accountId);
+                return null;
+            }
+            return entry.principal();
+        }
+    }
+
+    /**
+     * 불러오기 시작 시점의 캐시 버전. {@link #put}에 함께 넘긴다.
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 불러온 정보를 저장한다. 불러오기 시작한 뒤 무효화가 있었다면 저장하지 않는다.
+     */
+    public void put(AccountPrincipal principal, long versionAtStart) {
+        synchronized (entries) {
+            if (version.get() != versionAtStart) {
+                return;
+            }
+            entries.put(principal.id(), new Entry(principal, System.nanoTime()));
+        }
+    }
+
+    /**
+     * 계정의 정보를 무효화한다. 변경 중인 트랜잭션이 있으면 커밋 이후에도 한 번 더 무효화한다.
+     */
+    public void invalidate(long accountId) {
+        remove(accountId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(accountId);
+                }
+            });
+        }
+    }
+
+    private void remove(long accountId) {
+        synchronized (entries) {
+            version.incrementAndGet();
+            entries.remove(accountId);
+        }
+    }
+
+    private record Entry(AccountPrincipal principal, long createdAt) {
+    }
+}
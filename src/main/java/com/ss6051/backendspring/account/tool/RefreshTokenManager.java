@@ -0,0 +1,87 @@
+package com.ss6051.backendspring.account.tool;
+
+import com.ss6051.backendspring.account.domain.RefreshToken;
+import com.ss6051.backendspring.global.exception.CustomException;
+import com.ss6051.backendspring.global.exception.ErrorCode;
+import com.ss6051.backendspring.global.tool.TokenHash;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * refresh token 발급과 교체(rotation).
+ * refresh token은 서명 없는 무작위 문자열이며, 저장소에 해시로만 보관한다.
+ * 토큰은 한 번만 사용할 수 있고, 사용할 때마다 같은 계열의 새 토큰으로 교체된다.
+ * 이미 사용된 토큰이 다시 오면 탈취된 것으로 보고 그 계열의 토큰을 모두 폐기한다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenManager {
+
+    private static final int TOKEN_BYTES = 32; // 256비트
+
+    private final RefreshTokenStore store;
+    private final long ttlMillis;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenManager(RefreshTokenStore store,
+                               @Value("${auth.refresh-token.ttl-days:14}") long ttlDays) {
+        this.store = store;
+        this.ttlMillis = ttlDays * 24 * 60 * 60 * 1000;
+    }
+
+    public long ttlSeconds() {
+        return ttlMillis / 1000L;
+    }
+
+    /**
+     * 로그인 시 새 계열의 refresh token을 발급한다.
+     *
+     * @return refresh token 원문
+     */
+    public String issue(long accountId) {
+        return issue(accountId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * refresh token을 사용해 같은 계열의 새 토큰으로 교체한다.
+     *
+     * @param token refresh token 원문
+     * @return {@code Rotation} 토큰 주인 계정 ID와 새 refresh token
+     * @throws CustomException 없는 토큰({@link ErrorCode#REFRESH_TOKEN_INVALID}), 만료된 토큰({@link ErrorCode#JWT_TOKEN_EXPIRED}),
+     *                         이미 사용된 토큰({@link ErrorCode#REFRESH_TOKEN_REUSED})
+     */
+    public Rotation rotate(String token) {
+        if (token == null || token.isBlank()) {
+            throw new CustomException(ErrorCode.REFRESH_TOKEN_INVALID);
+        }
+        String tokenHash = TokenHash.sha256(token);
+        RefreshToken stored = store.find(tokenHash)
+                .orElseThrow(() -> new CustomException(ErrorCode.REFRESH_TOKEN_INVALID));
+        if (stored.expiresAt() <= System.currentTimeMillis()) {
+            throw new CustomException(ErrorCode.JWT_TOKEN_EXPIRED);
+        }
+        if (!store.markUsed(tokenHash)) {
+            store.revokeFamily(stored.familyId());
+            log.warn("refresh token 재사용 감지 - 토큰 계열 폐기: accountId={}, familyId={}", stored.accountId(), stored.familyId());
+            throw new CustomException(ErrorCode.REFRESH_TOKEN_REUSED);
+        }
+        return new Rotation(stored.accountId(), issue(stored.accountId(), stored.familyId()));
+    }
+
+    private String issue(long accountId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        store.save(new RefreshToken(TokenHash.sha256(token), accountId, familyId,
+                System.currentTimeMillis() + ttlMillis, false));
+        return token;
+    }
+
+    public record Rotation(long accountId, String refreshToken) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.ss6051.backendspring.account.tool;
+
+import com.ss6051.backendspring.account.domain.RefreshToken;
+
+import java.util.Optional;
+
+/**
+ * refresh token 저장소. 토큰은 해시로만 저장하고 조회한다.
+ * 기본은 메모리 저장소이며, auth.refresh-token.store=jdbc로 DB 저장소를 사용할 수 있다.
+ */
+public interface RefreshTokenStore {
+
+    void save(RefreshToken token);
+
+    Optional<RefreshToken> find(String tokenHash);
+
+    /**
+     * 토큰을 사용된 것으로 표시한다. 동시에 같은 토큰으로 요청해도 한 요청만 성공한다.
+     *
+     * @return 사용되지 않은 토큰을 이번에 표시했으면 true. 이미 사용되었거나 없으면 false
+     */
+    boolean markUsed(String tokenHash);
+
+    /**
+     * 같은 계열의 토큰을 모두 폐기한다.
+     */
+    void revokeFamily(String familyId);
+}
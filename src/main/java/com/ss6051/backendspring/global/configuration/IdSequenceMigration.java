@@ -0,0 +1,81 @@
+package com.ss6051.backendspring.global.configuration;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * IDENTITY 전략으로 저장된 기존 행이 있는 테이블의 ID 시퀀스를 기존 최대 ID 뒤로 옮긴다.
+ * 시퀀스는 항상 앞으로만 옮기므로 여러 번 실행해도 안전하다. 웹 서버가 요청을 받기 전에 실행된다.
+ * 시퀀스를 지원하지 않는 DB(MySQL 등)는 Hibernate가 만드는 시퀀스 테이블(next_val)을 갱신한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class IdSequenceMigration implements SmartInitializingSingleton {
+
+    // 엔티티의 @SequenceGenerator allocationSize와 같아야 한다
+    private static final long ALLOCATION_SIZE = 50;
+
+    private static final List<IdSequence> SEQUENCES = List.of(
+            new IdSequence("store", "store_seq"),
+            new IdSequence("address", "address_seq"),
+            new IdSequence("store_account", "store_account_seq"),
+            new IdSequence("basic_work_schedule", "basic_work_schedule_seq"),
+            new IdSequence("actual_work_schedule", "actual_work_schedule_seq"),
+            new IdSequence("daily_work_summary", "daily_work_summary_seq"),
+            new IdSequence("payroll_snapshot", "payroll_snapshot_seq"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${jpa.id-sequence.migrate:true}")
+    private boolean enabled;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        for (IdSequence sequence : SEQUENCES) {
+            try {
+                migrate(sequence, dialect);
+            } catch (DataAccessException e) {
+                log.warn("ID 시퀀스 이전 실패: table={}, sequence={}, {}", sequence.table(), sequence.name(), e.getMessage());
+            }
+        }
+    }
+
+    void migrate(IdSequence sequence, Dialect dialect) {
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from " + sequence.table(), Long.class);
+        if (maxId == null) {
+            return;
+        }
+
+        // pooled 방식은 시퀀스 값 v를 받으면 (v - 49) ~ v 구간을 사용하므로, 첫 구간이 최대 ID 다음부터 시작하도록 맞춘다
+        long target = maxId + ALLOCATION_SIZE;
+        if (dialect.getSequenceSupport().supportsSequences()) {
+            Long next = jdbcTemplate.queryForObject(dialect.getSequenceSupport().getSequenceNextValString(sequence.name()), Long.class);
+            if (next != null && next >= target) {
+                return;
+            }
+            jdbcTemplate.execute("alter sequence " + sequence.name() + " restart with " + target);
+        } else if (jdbcTemplate.update("update " + sequence.name() + " set next_val = ? where next_val < ?", target, target) == 0) {
+            return;
+        }
+        log.info("ID 시퀀스 이전: table={}, sequence={}, maxId={}, restartWith={}", sequence.table(), sequence.name(), maxId, target);
+    }
+
+    record IdSequence(String table, String name) {
+    }
+}
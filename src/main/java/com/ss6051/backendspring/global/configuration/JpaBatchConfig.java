@@ -0,0 +1,26 @@
+package com.ss6051.backendspring.global.configuration;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC 배치 설정.
+ * 여러 건을 저장할 때 INSERT/UPDATE를 한 번의 왕복으로 묶어 보낸다. 엔티티 ID는 시퀀스에서 50개씩 미리 받아 두므로 INSERT도 배치 대상이다.
+ * 같은 테이블의 문장이 이어지도록 INSERT/UPDATE를 엔티티 종류별로 정렬해 배치가 중간에 끊기지 않게 한다.
+ * spring.jpa.properties.hibernate.* 로 직접 지정한 값이 있으면 그 값을 사용한다.
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${jpa.jdbc.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
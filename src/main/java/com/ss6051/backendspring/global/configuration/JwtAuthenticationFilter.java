@@ -1,15 +1,11 @@
 package com.ss6051.backendspring.global.configuration;
 
 import com.ss6051.backendspring.account.AccountService;
-import com.ss6051.backendspring.global.domain.Account;
+import com.ss6051.backendspring.global.domain.AccountPrincipal;
 import com.ss6051.backendspring.global.exception.CustomException;
 import com.ss6051.backendspring.global.exception.ErrorCode;
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.security.Keys;
-import io.jsonwebtoken.security.SignatureException;
+import com.ss6051.backendspring.global.tool.JwtTokenProvider;
+import com.ss6051.backendspring.global.tool.VerifiedToken;
 import jakarta.annotation.Nonnull;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -18,16 +14,19 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.annotations.Filter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import javax.crypto.SecretKey;
 import java.io.IOException;
-
-import static com.ss6051.backendspring.Secret.JWT_SECRET;
+import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Filter(name = "JwtAuthenticationFilter")
@@ -36,7 +35,28 @@ import static com.ss6051.backendspring.Secret.JWT_SECRET;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final AccountService accountService;
-    private final SecretKey key = Keys.hmacShaKeyFor(JWT_SECRET.getBytes());
+    private final JwtTokenProvider jwtTokenProvider;
+
+    // 역할 클레임이 오래된 접근 토큰 대신 사용할 새 접근 토큰을 담는 응답 헤더
+    public static final String REISSUED_TOKEN_HEADER = "X-Reissued-Access-Token";
+
+    // 운영 통계 조회 등 서버 관리용 요청에 필요한 권한
+    public static final String ADMIN_ROLE = "ADMIN";
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_" + ADMIN_ROLE));
+
+    // 접근 토큰 없이 호출하는 로그인/토큰 재발급 경로. 만료된 접근 토큰이 함께 와도 검증하지 않는다
+    private static final List<String> UNAUTHENTICATED_PATTERNS = List.of("/oauth2/kakao/**", "/oauth2/token/**");
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Value("${auth.admin-account-ids:}")
+    private Set<Long> adminAccountIds; // 관리자 권한을 부여할 계정 ID 목록(쉼표 구분). 비어 있으면 관리자 없음
+
+    @Override
+    protected boolean shouldNotFilter(@Nonnull HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return UNAUTHENTICATED_PATTERNS.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
 
     @Override
     protected void doFilterInternal(@Nonnull HttpServletRequest request,
@@ -45,14 +65,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         log.debug("JwtAuthenticationFilter.doFilterInternal start");
         String token = getJwtFromRequest(request);
 
-        if (StringUtils.hasText(token) && validateToken(token)) {
-            String uid = getUserIdFromJWT(token);
+        if (StringUtils.hasText(token)) {
+            // 서명 검증과 주체 추출을 한 번의 파싱으로 처리
+            VerifiedToken verified = jwtTokenProvider.verify(token);
+            String uid = verified.subject();
+            if (uid == null) { // 주체가 없는 토큰으로는 인증하지 않는다
+                throw new CustomException(ErrorCode.JWT_TOKEN_INVALID, "subject");
+            }
             log.debug("JWT Token validated, finding account for user ID: {}", uid);
-            Account account = accountService.findAccount(Long.parseLong(uid));
+            AccountPrincipal principal = resolvePrincipal(Long.parseLong(uid), verified, response);
 
+            // 매장 권한은 StorePermissionEvaluator가 principal의 매장별 역할로 판단하므로 문자열 권한은 관리자 권한만 만든다
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    account, null, account.getAuthorities());
-            log.debug("Account found: {}", account);
+                    principal, null, adminAccountIds.contains(principal.id()) ? ADMIN_AUTHORITIES : List.of());
+            log.debug("Account found: {}", principal);
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
@@ -61,13 +87,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private String getUserIdFromJWT(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+    /**
+     * 토큰에 담긴 역할 클레임의 소속 버전이 현재와 같으면 토큰만으로 인증 정보를 만든다.
+     * 버전이 다르면 DB에서 다시 불러오고, 최신 역할을 담은 접근 토큰을 응답 헤더로 재발급한다.
+     * 역할 클레임이 없는 토큰은 캐시된 요약 정보를 사용한다.
+     */
+    private AccountPrincipal resolvePrincipal(long accountId, VerifiedToken verified, HttpServletResponse response) {
+        if (!verified.hasRoleClaims()) {
+            // 엔티티 대신 캐시된 요약 정보를 사용 - 캐시 적중 시 DB 조회 없음
+            return accountService.findPrincipal(accountId);
+        }
+        if (verified.membershipVersion() == accountService.getMembershipVersion(accountId)) {
+            return new AccountPrincipal(accountId, null, verified.storeRoles());
+        }
+
+        log.debug("JWT role claims are stale, reissuing access token for user ID: {}", accountId);
+        AccountPrincipal principal = accountService.reloadPrincipal(accountId);
+        response.setHeader(REISSUED_TOKEN_HEADER, accountService.reissueAccessToken(accountId));
+        return principal;
     }
 
     private String getJwtFromRequest(HttpServletRequest request) {
@@ -78,21 +115,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private boolean validateToken(String authToken) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(authToken);
-        } catch (ExpiredJwtException ex) {
-            throw new CustomException(ErrorCode.JWT_TOKEN_EXPIRED);
-        } catch (MalformedJwtException | UnsupportedJwtException |
-                 IllegalArgumentException | SignatureException ex) {
-            // Invalid JWT token
-            // Unsupported JWT token
-            // JWT claims string is empty
-            // JWT signature does not match locally computed signature
-            log.error("JWT token error: {}", ex.getMessage());
-            throw new CustomException(ErrorCode.JWT_TOKEN_INVALID, ex.getClass().getName());
-        }
-        return true;
-    }
-
 }
@@ -0,0 +1,34 @@
+package com.ss6051.backendspring.global.configuration;
+
+import com.ss6051.backendspring.store.tool.InMemoryOneTimeCodeStore;
+import com.ss6051.backendspring.store.tool.JdbcOneTimeCodeStore;
+import com.ss6051.backendspring.store.tool.OneTimeCodeStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Slf4j
+@Configuration
+public class OneTimeCodeStoreConfig {
+
+    /**
+     * 일회성 코드 저장소. store.one-time-code.store가 jdbc면 DB에, 아니면 메모리에 저장한다.
+     * 서버를 여러 대 운영하면 jdbc를 사용해야 다른 서버에서 만든 코드로도 직원 등록이 된다.
+     */
+    @Bean
+    public OneTimeCodeStore oneTimeCodeStore(@Value("${store.one-time-code.store:memory}") String type,
+                                             @Value("${store.one-time-code.sweep-interval-seconds:60}") long sweepIntervalSeconds,
+                                             JdbcTemplate jdbcTemplate) {
+        if ("jdbc".equalsIgnoreCase(type)) {
+            JdbcOneTimeCodeStore store = new JdbcOneTimeCodeStore(jdbcTemplate);
+            store.createTableIfNotExists();
+            store.startSweeping(sweepIntervalSeconds);
+            log.info("일회성 코드 저장소: jdbc (sweep-interval={}s)", sweepIntervalSeconds);
+            return store;
+        }
+        log.info("일회성 코드 저장소: memory");
+        return new InMemoryOneTimeCodeStore();
+    }
+}
@@ -0,0 +1,30 @@
+package com.ss6051.backendspring.global.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 매장 급여 병렬 계산에 사용하는 스레드 풀 설정.
+ * 풀 크기를 제한해 급여 계산이 출퇴근 기록 등 다른 요청의 CPU를 모두 차지하지 않도록 한다.
+ */
+@Configuration
+public class PayrollExecutorConfig {
+
+    @Bean(name = "payrollExecutor")
+    public ThreadPoolTaskExecutor payrollExecutor(@Value("${payroll.executor.pool-size:4}") int poolSize,
+                                                  @Value("${payroll.executor.queue-capacity:256}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("payroll-");
+        // 큐가 가득 차면 요청 스레드가 직접 계산 - 작업을 버리지 않고 자연스럽게 속도를 늦춘다
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,183 @@
+package com.ss6051.backendspring.global.configuration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ss6051.backendspring.global.domain.AccountPrincipal;
+import com.ss6051.backendspring.global.exception.ErrorCode;
+import com.ss6051.backendspring.global.exception.ErrorResponse;
+import com.ss6051.backendspring.global.tool.RateLimiter;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 경로별 요청 제한 필터. JwtAuthenticationFilter 바로 뒤에서 실행된다.
+ * 규칙에 맞는 요청은 인증된 경우 계정 ID별, 인증되지 않은 경우 클라이언트 IP별 토큰 버킷을 통과해야 하며,
+ * 제한을 넘으면 컨트롤러와 DB에 닿기 전에 429로 응답한다.
+ * 인증된 요청을 IP로 묶지 않으므로 같은 NAT/프록시 뒤의 사용자들이 서로의 한도를 소모하지 않는다.
+ * 규칙 형식: "METHOD 경로패턴=용량/기간(초)"을 쉼표로 구분 (예: "POST /store/registerEmployee=10/60")
+ * <p>
+ * 로드 밸런서/리버스 프록시 뒤에서는 rate-limit.trusted-proxies에 프록시 주소(IP 또는 CIDR, 쉼표 구분)를 설정한다.
+ * 요청이 신뢰하는 프록시에서 왔을 때만 X-Forwarded-For를 오른쪽부터 읽어, 신뢰하는 프록시가 아닌 첫 주소를 클라이언트 IP로 사용한다.
+ * 클라이언트가 직접 보낸 X-Forwarded-For 값은 사용하지 않는다.
+ * server.forward-headers-strategy=native로 서블릿 컨테이너가 원격 주소를 바꾸게 한 경우에는 설정하지 않아도 된다.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String DEFAULT_RULES = "POST /store/registerEmployee=10/60,"
+            + "POST /store/generateCode=30/60,"
+            + "GET /oauth2/kakao=30/60,"
+            + "POST /oauth2/token/refresh=30/60,"
+            + "GET /salary/calculate=60/60,"
+            + "POST /schedule/actual/bulk=30/60";
+
+    private static final Pattern IP_LITERAL = Pattern.compile("[0-9a-fA-F:.]+");
+
+    private final boolean enabled;
+    private final List<Rule> rules = new ArrayList<>();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<IpAddressMatcher> trustedProxies = new ArrayList<>();
+    private final byte[] rejectionBody;
+
+    public RateLimitFilter(@Value("${rate-limit.enabled:true}") boolean enabled,
+                           @Value("${rate-limit.rules:" + DEFAULT_RULES + "}") String rules,
+                           @Value("${rate-limit.max-keys:100000}") int maxKeys,
+                           @Value("${rate-limit.trusted-proxies:}") String trustedProxies) throws JsonProcessingException {
+        this.enabled = enabled;
+        for (String proxy : StringUtils.commaDelimitedListToStringArray(trustedProxies)) {
+            if (StringUtils.hasText(proxy)) {
+                this.trustedProxies.add(new IpAddressMatcher(proxy.trim()));
+            }
+        }
+        for (String rule : StringUtils.commaDelimitedListToStringArray(rules)) {
+            if (StringUtils.hasText(rule)) {
+                this.rules.add(Rule.parse(rule.trim(), maxKeys));
+            }
+        }
+        // 거절 응답 본문은 미리 만들어 둔다
+        ErrorCode errorCode = ErrorCode.TOO_MANY_REQUESTS;
+        this.rejectionBody = new ObjectMapper().writeValueAsBytes(new ErrorResponse(errorCode.getCode(), errorCode.getMessage(), null));
+        log.info("요청 제한 규칙: enabled={}, rules={}, trustedProxies={}", enabled, this.rules, trustedProxies);
+    }
+
+    @Override
+    protected void doFilterInternal(@Nonnull HttpServletRequest request,
+                                    @Nonnull HttpServletResponse response,
+                                    @Nonnull FilterChain filterChain) throws ServletException, IOException {
+        Rule rule = enabled ? match(request) : null;
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Long accountId = authenticatedAccountId();
+        String key = accountId != null ? "account:" + accountId : "ip:" + clientIp(request);
+        if (!rule.limiter().tryAcquire(key)) {
+            log.debug("요청 제한: rule={}, key={}", rule, key);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader("Retry-After", Long.toString(rule.limiter().retryAfterSeconds()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(rejectionBody.length);
+            response.getOutputStream().write(rejectionBody);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Rule match(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Rule rule : rules) {
+            if (rule.method().equalsIgnoreCase(request.getMethod()) && pathMatcher.match(rule.pattern(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 요청한 클라이언트의 IP. 신뢰하는 프록시를 거친 요청이면 X-Forwarded-For에서 프록시가 아닌 가장 가까운 주소를 사용한다.
+     */
+    String clientIp(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (!isTrustedProxy(remoteAddr) || !StringUtils.hasText(forwardedFor)) {
+            return remoteAddr;
+        }
+        // 오른쪽일수록 가까운 프록시가 덧붙인 값이다. 왼쪽 값은 클라이언트가 임의로 넣을 수 있으므로 신뢰하지 않는다
+        String[] hops = StringUtils.commaDelimitedListToStringArray(forwardedFor);
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !isTrustedProxy(hop)) {
+                return hop;
+            }
+        }
+        return remoteAddr; // 모두 신뢰하는 프록시 - 내부에서 보낸 요청
+    }
+
+    private boolean isTrustedProxy(String address) {
+        // IP 형식이 아닌 값은 비교하지 않는다 - 호스트 이름이면 IpAddressMatcher가 DNS를 조회한다
+        if (trustedProxies.isEmpty() || !IP_LITERAL.matcher(address).matches()) {
+            return false;
+        }
+        try {
+            for (IpAddressMatcher proxy : trustedProxies) {
+                if (proxy.matches(address)) {
+                    return true;
+                }
+            }
+        } catch (IllegalArgumentException e) { // IP 형식처럼 보이지만 해석할 수 없는 값
+            log.debug("X-Forwarded-For 주소 해석 실패: {}", address);
+        }
+        return false;
+    }
+
+    // JwtAuthenticationFilter가 만든 인증 정보에서 계정 ID를 꺼낸다 - DB 조회 없음
+    private static Long authenticatedAccountId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AccountPrincipal principal) {
+            return principal.id();
+        }
+        return null;
+    }
+
+    private record Rule(String method, String pattern, int capacity, long periodSeconds, RateLimiter limiter) {
+
+        static Rule parse(String rule, int maxKeys) {
+            try {
+                String[] routeAndLimit = rule.split("=");
+                String[] route = routeAndLimit[0].trim().split("\\s+");
+                String[] limit = routeAndLimit[1].trim().split("/");
+                int capacity = Integer.parseInt(limit[0].trim());
+                long periodSeconds = Long.parseLong(limit[1].trim());
+                return new Rule(route[0], route[1], capacity, periodSeconds, new RateLimiter(capacity, periodSeconds, maxKeys));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 요청 제한 규칙: " + rule, e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return method + " " + pattern + "=" + capacity + "/" + periodSeconds;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ss6051.backendspring.global.configuration;
+
+import com.ss6051.backendspring.account.tool.InMemoryRefreshTokenStore;
+import com.ss6051.backendspring.account.tool.JdbcRefreshTokenStore;
+import com.ss6051.backendspring.account.tool.RefreshTokenStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Slf4j
+@Configuration
+public class RefreshTokenStoreConfig {
+
+    /**
+     * refresh token 저장소. auth.refresh-token.store가 jdbc면 DB에, 아니면 메모리에 저장한다.
+     */
+    @Bean
+    public RefreshTokenStore refreshTokenStore(@Value("${auth.refresh-token.store:memory}") String type,
+                                               @Value("${auth.refresh-token.max-size:100000}") int maxSize,
+                                               JdbcTemplate jdbcTemplate) {
+        if ("jdbc".equalsIgnoreCase(type)) {
+            JdbcRefreshTokenStore store = new JdbcRefreshTokenStore(jdbcTemplate);
+            store.createTableIfNotExists();
+            log.info("refresh token 저장소: jdbc");
+            return store;
+        }
+        log.info("refresh token 저장소: memory (max-size={})", maxSize);
+        return new InMemoryRefreshTokenStore(maxSize);
+    }
+}
@@ -3,7 +3,10 @@ package com.ss6051.backendspring.global.configuration;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -19,10 +22,12 @@ import java.util.Collections;
 
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -31,23 +36,35 @@ public class SecurityConfig {
                         authorizeRequests
                                 .requestMatchers("/h2-console/**").permitAll() // Allow access to H2 console
                                 .requestMatchers("/oauth2/kakao/**").permitAll() // OAuth2 로그인 요청 허용
+                                .requestMatchers("/oauth2/token/**").permitAll() // refresh token으로 토큰 재발급 허용
                                 .requestMatchers("/", "/swagger").permitAll() // Swagger UI 리다이렉트 경로 접근 허용
                                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll() // Swagger UI 접근 허용
+                                .requestMatchers("/auth/*/stats", "/salary/cache/stats").hasRole(JwtAuthenticationFilter.ADMIN_ROLE) // 운영 통계는 관리자만 조회
                                 .anyRequest().authenticated() // 기타 요청은 인증 필요
                 ).csrf(AbstractHttpConfigurer::disable) // CSRF 보안 기능 비활성화
                 .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin)) // X-Frame-Options: SAMEORIGIN
                 .cors(Customizer.withDefaults())
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class); // JWT 인증 필터 추가
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class) // JWT 인증 필터 추가
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class); // 인증된 계정 ID로 요청 제한
 
         return http.build();
     }
 
+    // @PreAuthorize의 hasPermission(...)을 매장 역할로 판단
+    @Bean
+    static MethodSecurityExpressionHandler methodSecurityExpressionHandler(StorePermissionEvaluator storePermissionEvaluator) {
+        DefaultMethodSecurityExpressionHandler handler = new DefaultMethodSecurityExpressionHandler();
+        handler.setPermissionEvaluator(storePermissionEvaluator);
+        return handler;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(Collections.singletonList("http://localhost:3000"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type"));
+        configuration.setExposedHeaders(Collections.singletonList(JwtAuthenticationFilter.REISSUED_TOKEN_HEADER)); // 재발급된 접근 토큰
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L); // Optional, sets the max age of the CORS preflight cache
 
@@ -0,0 +1,46 @@
+package com.ss6051.backendspring.global.configuration;
+
+import com.ss6051.backendspring.global.domain.AccountPrincipal;
+import com.ss6051.backendspring.global.domain.StorePermission;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+
+/**
+ * {@code hasPermission(#storeId, 'Store', 'MANAGE')} 형태의 매장 권한 검사.
+ * 인증 정보에 담긴 {@link AccountPrincipal}의 매장별 역할을 한 번 조회해 판단하며, DB에 접근하지 않는다.
+ */
+@Component
+public class StorePermissionEvaluator implements PermissionEvaluator {
+
+    private static final String STORE = "Store";
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
+        if (!(targetDomainObject instanceof Number storeId)) {
+            return false;
+        }
+        return hasPermission(authentication, storeId.longValue(), permission);
+    }
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType, Object permission) {
+        if (!STORE.equals(targetType) || !(targetId instanceof Number storeId)) {
+            return false;
+        }
+        return hasPermission(authentication, storeId.longValue(), permission);
+    }
+
+    private boolean hasPermission(Authentication authentication, long storeId, Object permission) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof AccountPrincipal principal)) {
+            return false;
+        }
+        try {
+            return principal.hasPermission(storeId, StorePermission.valueOf(permission.toString()));
+        } catch (IllegalArgumentException e) {
+            return false; // 알 수 없는 권한 이름
+        }
+    }
+}
@@ -1,17 +1,17 @@
 package com.ss6051.backendspring.global.domain;
 
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import com.ss6051.backendspring.store.domain.StoreAccount;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Entity
 @Getter
@@ -32,17 +32,15 @@ public class Account implements UserDetails {
     @OneToMany(mappedBy = "account")
     private List<StoreAccount> storeAccounts; // 매장별 역할 정보 리스트
 
+    @ColumnDefault("0")
+    private long membershipVersion; // 매장 소속/역할이 바뀔 때마다 증가. 접근 토큰의 역할 클레임이 최신인지 확인하는 데 사용
+
+    // 매장 권한은 StorePermissionEvaluator가 AccountPrincipal의 매장별 역할로 판단한다.
+    // 지연 로딩되는 storeAccounts를 읽지 않도록 빈 목록을 반환하고 직렬화에서도 제외한다
+    @JsonIgnore
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return storeAccounts.stream()
-                .map(storeAccount -> new SimpleGrantedAuthority("STORE_" + storeAccount.getStore().getId() + "_ROLE_" + storeAccount.getRole().name()))
-                .collect(Collectors.toList());
-    }
-
-    public List<String> getAuthoritiesToString() {
-        return storeAccounts.stream()
-                .map(storeAccount -> "STORE_" + storeAccount.getStore().getId() + "_ROLE_" + storeAccount.getRole().name())
-                .collect(Collectors.toList());
+        return List.of();
     }
 
     @Override
@@ -0,0 +1,30 @@
+package com.ss6051.backendspring.global.domain;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+import java.util.Map;
+
+/**
+ * 인증된 사용자의 변경할 수 없는 요약 정보. 요청마다 {@link Account} 엔티티와 매장 소속 정보를 다시 불러오지 않도록 캐시해 사용한다.
+ *
+ * @param id         계정 ID
+ * @param nickname   닉네임. 접근 토큰의 역할 클레임으로 만든 경우 null
+ * @param storeRoles 매장 ID별 역할
+ */
+public record AccountPrincipal(long id,
+                               String nickname,
+                               StoreRoleMap storeRoles) implements AuthenticatedPrincipal {
+
+    public static AccountPrincipal of(long id, String nickname, Map<Long, Role> storeRoles) {
+        return new AccountPrincipal(id, nickname, StoreRoleMap.of(storeRoles));
+    }
+
+    public boolean hasPermission(long storeId, StorePermission permission) {
+        return permission.isGrantedTo(storeRoles.get(storeId));
+    }
+
+    @Override
+    public String getName() {
+        return nickname != null ? nickname : Long.toString(id); // 토큰의 역할 클레임으로 만든 경우 닉네임이 없다
+    }
+}
@@ -0,0 +1,21 @@
+package com.ss6051.backendspring.global.domain;
+
+/**
+ * 매장에 대한 권한 수준. {@code @PreAuthorize("hasPermission(#storeId, 'Store', 'MANAGE')")} 처럼 사용한다.
+ */
+public enum StorePermission {
+    MEMBER, // 매장 소속
+    MANAGE, // 사장 또는 관리자
+    OWNER; // 사장
+
+    public boolean isGrantedTo(Role role) {
+        if (role == null) {
+            return false;
+        }
+        return switch (this) {
+            case MEMBER -> true;
+            case MANAGE -> role.isManageable();
+            case OWNER -> role == Role.OWNER;
+        };
+    }
+}
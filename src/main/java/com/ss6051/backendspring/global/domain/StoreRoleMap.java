@@ -0,0 +1,124 @@
+package com.ss6051.backendspring.global.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 매장 ID(long) → 역할 맵. 생성 후 변경되지 않는다.
+ * 개방 주소법으로 long 키를 그대로 배열에 저장해 조회 시 박싱이나 문자열 생성 없이 한 번의 해시 조회로 역할을 찾는다.
+ */
+public final class StoreRoleMap {
+
+    private static final StoreRoleMap EMPTY = new StoreRoleMap(new long[1], new Role[1], 0);
+
+    private final long[] storeIds;
+    private final Role[] roles; // null이면 빈 칸
+    private final int size;
+
+    private StoreRoleMap(long[] storeIds, Role[] roles, int size) {
+        this.storeIds = storeIds;
+        this.roles = roles;
+        this.size = size;
+    }
+
+    public static StoreRoleMap of(Map<Long, Role> storeRoles) {
+        if (storeRoles.isEmpty()) {
+            return EMPTY;
+        }
+
+        // 적재율 50% 이하가 되도록 2의 거듭제곱 크기로 만든다
+        int capacity = Integer.highestOneBit(storeRoles.size() * 2 - 1) << 1;
+        long[] storeIds = new long[capacity];
+        Role[] roles = new Role[capacity];
+        for (Map.Entry<Long, Role> entry : storeRoles.entrySet()) {
+            int index = indexOf(entry.getKey(), capacity);
+            while (roles[index] != null) {
+                index = (index + 1) & (capacity - 1);
+            }
+            storeIds[index] = entry.getKey();
+            roles[index] = entry.getValue();
+        }
+        return new StoreRoleMap(storeIds, roles, storeRoles.size());
+    }
+
+    /**
+     * 매장에서의 역할을 조회한다.
+     *
+     * @return 역할. 매장에 소속되지 않았으면 null
+     */
+    public Role get(long storeId) {
+        int mask = roles.length - 1;
+        for (int index = indexOf(storeId, roles.length); roles[index] != null; index = (index + 1) & mask) {
+            if (storeIds[index] == storeId) {
+                return roles[index];
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 접근 토큰 클레임용 문자열로 변환한다. 예: {@code "12:O,15:M,20:E"} (역할의 첫 글자)
+     */
+    public String toClaim() {
+        StringBuilder claim = new StringBuilder(size * 8);
+        for (int i = 0; i < roles.length; i++) {
+            if (roles[i] != null) {
+                if (!claim.isEmpty()) {
+                    claim.append(',');
+                }
+                claim.append(storeIds[i]).append(':').append(roles[i].name().charAt(0));
+            }
+        }
+        return claim.toString();
+    }
+
+    /**
+     * {@link #toClaim()}으로 만든 문자열을 다시 맵으로 변환한다.
+     *
+     * @throws IllegalArgumentException 형식이 맞지 않는 경우
+     */
+    public static StoreRoleMap fromClaim(String claim) {
+        if (claim.isEmpty()) {
+            return EMPTY;
+        }
+        Map<Long, Role> storeRoles = new HashMap<>();
+        for (String entry : claim.split(",")) {
+            int separator = entry.indexOf(':');
+            if (separator < 0 || separator != entry.length() - 2) {
+                throw new IllegalArgumentException("invalid store role claim: " + entry);
+            }
+            Role role = switch (entry.charAt(separator + 1)) {
+                case 'O' -> Role.OWNER;
+                case 'M' -> Role.MANAGER;
+                case 'E' -> Role.EMPLOYEE;
+                default -> throw new IllegalArgumentException("invalid role: " + entry);
+            };
+            storeRoles.put(Long.parseLong(entry.substring(0, separator)), role);
+        }
+        return of(storeRoles);
+    }
+
+    public Map<Long, Role> toMap() {
+        Map<Long, Role> map = new HashMap<>(size * 2);
+        for (int i = 0; i < roles.length; i++) {
+            if (roles[i] != null) {
+                map.put(storeIds[i], roles[i]);
+            }
+        }
+        return map;
+    }
+
+    private static int indexOf(long storeId, int capacity) {
+        long hash = storeId * 0x9E3779B97F4A7C15L; // 연속된 ID가 한쪽에 몰리지 않도록 섞는다
+        return (int) (hash ^ (hash >>> 32)) & (capacity - 1);
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+}
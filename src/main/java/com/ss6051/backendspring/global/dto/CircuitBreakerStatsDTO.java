@@ -0,0 +1,19 @@
+package com.ss6051.backendspring.global.dto;
+
+/**
+ * 서킷 브레이커 상태와 통계
+ *
+ * @param state               현재 상태 (CLOSED, OPEN, HALF_OPEN)
+ * @param consecutiveFailures 현재 연속 실패 횟수
+ * @param opened              열림 상태가 된 횟수
+ * @param rejected            열림/반열림 상태에서 거절한 호출 수
+ * @param probeSuccesses      반열림 상태의 시험 호출 성공 횟수
+ * @param probeFailures       반열림 상태의 시험 호출 실패 횟수
+ */
+public record CircuitBreakerStatsDTO(String state,
+                                     int consecutiveFailures,
+                                     long opened,
+                                     long rejected,
+                                     long probeSuccesses,
+                                     long probeFailures) {
+}
@@ -0,0 +1,19 @@
+package com.ss6051.backendspring.global.dto;
+
+/**
+ * JWT 검증 통계
+ *
+ * @param hits                      검증된 토큰 캐시 적중 횟수 (서명 검증 생략)
+ * @param misses                    캐시 미스 횟수
+ * @param hitRate                   캐시 적중률 (0~1)
+ * @param verifications             서명 검증 횟수
+ * @param averageVerificationMicros 서명 검증 평균 소요 시간(마이크로초)
+ * @param size                      현재 캐시 항목 수
+ */
+public record JwtVerificationStatsDTO(long hits,
+                                      long misses,
+                                      double hitRate,
+                                      long verifications,
+                                      double averageVerificationMicros,
+                                      int size) {
+}
@@ -0,0 +1,17 @@
+package com.ss6051.backendspring.global.dto;
+
+/**
+ * 소요 시간 분포. 모든 시간은 마이크로초 단위이다.
+ *
+ * @param count     기록 횟수
+ * @param p50Micros 50번째 백분위
+ * @param p90Micros 90번째 백분위
+ * @param p99Micros 99번째 백분위
+ * @param maxMicros 최댓값
+ */
+public record LatencyStatsDTO(long count,
+                              long p50Micros,
+                              long p90Micros,
+                              long p99Micros,
+                              long maxMicros) {
+}
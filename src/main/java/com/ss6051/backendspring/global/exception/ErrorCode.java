@@ -9,6 +9,7 @@ public enum ErrorCode {
 
     INTERNAL_SERVER_ERROR("ERR001", "Internal Server Error"),
     INVALID_INPUT_VALUE("ERR002", "잘못된 입력 값입니다."),
+    TOO_MANY_REQUESTS("ERR003", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
 
     // Account
     ACCOUNT_NOT_FOUND("ERR100", "사용자 정보를 찾을 수 없습니다."),
@@ -43,6 +44,8 @@ public enum ErrorCode {
     // JWT
     JWT_TOKEN_EXPIRED("ERR600", "JWT Token Expired"),
     JWT_TOKEN_INVALID("ERR601", "JWT Token Invalid"),
+    REFRESH_TOKEN_INVALID("ERR602", "유효하지 않은 refresh token입니다."),
+    REFRESH_TOKEN_REUSED("ERR603", "이미 사용된 refresh token입니다. 다시 로그인해 주세요."),
 
     // Address
     ADDRESS_ALREADY_EXISTS("ERR700", "이미 다른 가게에 등록된 주소입니다."),;
@@ -9,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.TypeMismatchException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -35,6 +36,19 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(AccessDeniedException.class)
+    @Operation(summary = "권한이 없는 요청을 처리합니다.",
+            description = "@PreAuthorize 권한 검사에 실패한 경우 403 오류와 권한 오류 코드를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+    })
+    public ResponseEntity<ErrorResponse> handleAccessDenied(AccessDeniedException ex) {
+        log.info("handleAccessDenied: {}", ex.getMessage());
+        ErrorCode errorCode = ErrorCode.ROLE_ACCESS_DENIED;
+        ErrorResponse errorResponse = new ErrorResponse(errorCode.getCode(), errorCode.getMessage(), ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN);
+    }
+
     @ExceptionHandler(MissingServletRequestParameterException.class)
     @Operation(summary = "필수 요청 매개변수 누락 시 처리합니다.",
             description = "필수 요청 매개변수가 누락된 경우 400 오류와 적절한 메시지를 반환합니다.")
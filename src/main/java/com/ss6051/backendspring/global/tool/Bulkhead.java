@@ -0,0 +1,58 @@
+package com.ss6051.backendspring.global.tool;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 서버 호출의 동시 실행 수 제한.
+ * 외부 서버가 느려져도 그 호출에 묶이는 요청 스레드 수를 제한하여 다른 API가 사용할 스레드를 남겨둔다.
+ */
+public class Bulkhead {
+
+    private final Semaphore permits;
+    private final long maxWaitMillis;
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * @param maxConcurrent 동시에 실행할 수 있는 호출 수
+     * @param maxWaitMillis 자리가 없을 때 기다리는 최대 시간(ms). 0이면 바로 거절한다
+     */
+    public Bulkhead(int maxConcurrent, long maxWaitMillis) {
+        this.permits = new Semaphore(maxConcurrent);
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    /**
+     * 실행 자리를 얻는다. true를 받았다면 호출이 끝난 뒤 {@link #release()}를 호출해야 한다.
+     *
+     * @return 자리를 얻었으면 true, 거절되면 false
+     */
+    public boolean tryAcquire() {
+        boolean acquired;
+        try {
+            acquired = maxWaitMillis <= 0
+                    ? permits.tryAcquire()
+                    : permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.incrementAndGet();
+        }
+        return acquired;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int available() {
+        return permits.availablePermits();
+    }
+
+    public long rejected() {
+        return rejected.get();
+    }
+}
@@ -0,0 +1,101 @@
+package com.ss6051.backendspring.global.tool;
+
+import com.ss6051.backendspring.global.dto.CircuitBreakerStatsDTO;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 서버 호출용 서킷 브레이커.
+ * 연속 실패가 기준 횟수에 이르면 열림(OPEN) 상태가 되어 일정 시간 동안 호출을 바로 거절한다.
+ * 그 시간이 지나면 반열림(HALF_OPEN) 상태에서 정해진 수의 시험 호출만 통과시키고,
+ * 시험 호출이 성공하면 닫힘(CLOSED), 실패하면 다시 열림 상태가 된다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final int halfOpenProbes;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private int probesInFlight;
+
+    private long rejected;
+    private long opened;
+    private long probeSuccesses;
+    private long probeFailures;
+
+    /**
+     * @param name             로그에 표시할 이름
+     * @param failureThreshold 열림 상태가 되는 연속 실패 횟수
+     * @param openMillis       열림 상태를 유지하는 시간(ms)
+     * @param halfOpenProbes   반열림 상태에서 동시에 허용하는 시험 호출 수
+     */
+    public CircuitBreaker(String name, int failureThreshold, long openMillis, int halfOpenProbes) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openMillis * 1_000_000L;
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    /**
+     * 호출해도 되는지 확인한다. true를 받았다면 호출 결과를 {@link #onSuccess()} 또는 {@link #onFailure()}로 알려야 한다.
+     *
+     * @return 호출할 수 있으면 true, 거절되면 false
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                rejected++;
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            log.info("서킷 브레이커 반열림: {}", name);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= halfOpenProbes) {
+                rejected++;
+                return false;
+            }
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            probeSuccesses++;
+            state = State.CLOSED;
+            log.info("서킷 브레이커 닫힘 - 시험 호출 성공: {}", name);
+        }
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            probeFailures++;
+            open();
+        } else if (state == State.CLOSED && ++consecutiveFailures >= failureThreshold) {
+            open();
+        }
+    }
+
+    public synchronized CircuitBreakerStatsDTO stats() {
+        return new CircuitBreakerStatsDTO(state.name(), consecutiveFailures, opened, rejected, probeSuccesses, probeFailures);
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        consecutiveFailures = 0;
+        opened++;
+        log.warn("서킷 브레이커 열림: {}", name);
+    }
+}
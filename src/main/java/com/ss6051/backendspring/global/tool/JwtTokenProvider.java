@@ -1,30 +1,48 @@
 package com.ss6051.backendspring.global.tool;
 
 import com.ss6051.backendspring.Secret;
-import com.ss6051.backendspring.global.domain.Account;
+import com.ss6051.backendspring.global.domain.AccountPrincipal;
+import com.ss6051.backendspring.global.domain.StoreRoleMap;
+import com.ss6051.backendspring.global.exception.CustomException;
+import com.ss6051.backendspring.global.exception.ErrorCode;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
 
+@Slf4j
 @Component
 public class JwtTokenProvider {
     private final Key key;
     private static final String secretKey = Secret.JWT_SECRET;
+    private static final String ROLES_CLAIM = "roles"; // 매장별 역할. StoreRoleMap.toClaim() 형식
+    private static final String MEMBERSHIP_VERSION_CLAIM = "mv"; // 역할 클레임을 만들 때의 계정 소속 버전
 
-    public JwtTokenProvider() {
+    private final JwtParser parser; // 스레드 안전하므로 한 번만 만들어 재사용
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public JwtTokenProvider(VerifiedTokenCache verifiedTokenCache) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     /**
      * Spring Security 에서 로그인한 사용자의 ID를 가져온다.
      */
     public static long getAccountIdFromSecurity() {
-        return ((Account) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getId();
+        return ((AccountPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).id();
     }
 
     public String accessTokenGenerate(String subject, Date expiredAt) {
@@ -35,12 +53,74 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public String refreshTokenGenerate(Date expiredAt) {
-        // refresh token은 uid가 없음: 만료 시간이 길어 보안상 문제가 생길 수 있어 제외
+    /**
+     * 매장별 역할과 계정 소속 버전을 담은 접근 토큰을 생성한다.
+     * 토큰만으로 권한을 판단할 수 있으며, 소속 버전이 현재와 다르면 역할 클레임을 사용하지 않는다.
+     */
+    public String accessTokenGenerate(String subject, Date expiredAt, StoreRoleMap storeRoles, long membershipVersion) {
         return Jwts.builder()
+                .setSubject(subject)    //uid
                 .setExpiration(expiredAt)
+                .claim(ROLES_CLAIM, storeRoles.toClaim())
+                .claim(MEMBERSHIP_VERSION_CLAIM, membershipVersion)
                 .signWith(key, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-}
\ No newline at end of file
+    /**
+     * 토큰을 한 번만 파싱해 서명과 만료 시각을 검증하고 내용을 반환한다.
+     * 이미 검증한 토큰은 만료 전까지 캐시된 내용을 그대로 사용한다.
+     *
+     * @param token JWT
+     * @return {@code VerifiedToken} 토큰 주체와 만료 시각
+     * @throws CustomException 만료되었거나({@link ErrorCode#JWT_TOKEN_EXPIRED}) 유효하지 않은 토큰({@link ErrorCode#JWT_TOKEN_INVALID})
+     */
+    public VerifiedToken verify(String token) {
+        String tokenHash = TokenHash.sha256(token);
+        VerifiedToken cached = verifiedTokenCache.get(tokenHash);
+        if (cached != null) {
+            if (cached.expiresAt() <= System.currentTimeMillis()) {
+                verifiedTokenCache.remove(tokenHash);
+                throw new CustomException(ErrorCode.JWT_TOKEN_EXPIRED);
+            }
+            return cached;
+        }
+
+        long start = System.nanoTime();
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (ExpiredJwtException ex) {
+            throw new CustomException(ErrorCode.JWT_TOKEN_EXPIRED);
+        } catch (MalformedJwtException | UnsupportedJwtException |
+                 IllegalArgumentException | SignatureException ex) {
+            // Invalid JWT token
+            // Unsupported JWT token
+            // JWT claims string is empty
+            // JWT signature does not match locally computed signature
+            log.error("JWT token error: {}", ex.getMessage());
+            throw new CustomException(ErrorCode.JWT_TOKEN_INVALID, ex.getClass().getName());
+        } finally {
+            verifiedTokenCache.recordVerification(System.nanoTime() - start);
+        }
+
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(),
+                claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime(),
+                null, -1);
+        String roles = claims.get(ROLES_CLAIM, String.class);
+        Long membershipVersion = claims.get(MEMBERSHIP_VERSION_CLAIM, Long.class);
+        if (roles != null && membershipVersion != null) {
+            try {
+                verified = new VerifiedToken(verified.subject(), verified.expiresAt(), StoreRoleMap.fromClaim(roles), membershipVersion);
+            } catch (IllegalArgumentException e) {
+                // 서명은 맞지만 해석할 수 없는 역할 클레임 - 클레임 없이 DB 기준으로 인증
+                log.warn("JWT role claim ignored: {}", e.getMessage());
+            }
+        }
+        if (claims.getExpiration() != null) { // 만료 시각이 없는 토큰은 캐시하지 않는다
+            verifiedTokenCache.put(tokenHash, verified);
+        }
+        return verified;
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.ss6051.backendspring.global.tool;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 토큰 버킷 요청 제한기.
+ * 버킷마다 "다음 토큰이 채워질 이론상 시각" 하나만 저장하고(GCRA), 요청마다 CAS 한 번으로 허용 여부를 결정하므로 잠금이 없다.
+ * 최대 키 수를 넘으면 가득 찬(한동안 요청이 없던) 버킷부터 지운다. 지워진 버킷은 다시 만들어도 같은 상태이므로 제한이 느슨해지지 않는다.
+ * 그래도 넘으면 임의의 버킷을 지워 메모리 사용량을 제한한다.
+ */
+public class RateLimiter {
+
+    private final long intervalNanos; // 토큰 하나가 채워지는 시간
+    private final long burstNanos; // 버킷 용량만큼의 토큰이 채워지는 시간
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final Object evictionLock = new Object();
+
+    /**
+     * @param capacity      버킷 용량(연속으로 허용하는 요청 수)
+     * @param periodSeconds 빈 버킷이 가득 찰 때까지 걸리는 시간(초)
+     * @param maxKeys       보관할 최대 키 수
+     */
+    public RateLimiter(int capacity, long periodSeconds, int maxKeys) {
+        this.burstNanos = periodSeconds * 1_000_000_000L;
+        this.intervalNanos = burstNanos / capacity;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 키의 버킷에서 토큰 하나를 꺼낸다.
+     *
+     * @return 허용되면 true, 토큰이 없으면 false
+     */
+    public boolean tryAcquire(String key) {
+        long now = System.nanoTime();
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                evict(now);
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+        while (true) {
+            long arrival = bucket.get();
+            long next = (arrival - now > 0 ? arrival : now) + intervalNanos;
+            if (next - now > burstNanos) {
+                return false;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 다음 토큰이 채워질 때까지 남은 시간(초, 올림). 429 응답의 Retry-After 값으로 사용한다.
+     */
+    public long retryAfterSeconds() {
+        return Math.max(1, (intervalNanos + 999_999_999L) / 1_000_000_000L);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private void evict(long now) {
+        synchronized (evictionLock) {
+            if (buckets.size() < maxKeys) { // 다른 스레드가 이미 정리함
+                return;
+            }
+            buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+            Iterator<AtomicLong> iterator = buckets.values().iterator();
+            int target = maxKeys - maxKeys / 10;
+            while (buckets.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.ss6051.backendspring.global.tool;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 저장/비교에 사용하는 해시.
+ * 검증된 JWT 캐시의 키와 refresh token 저장소의 키가 같은 방식을 사용한다.
+ */
+public final class TokenHash {
+
+    private TokenHash() {
+    }
+
+    /**
+     * 토큰의 SHA-256 해시를 Base64 문자열로 반환한다.
+     */
+    public static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // 모든 JVM은 SHA-256을 지원해야 한다
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.ss6051.backendspring.global.tool;
+
+import com.ss6051.backendspring.global.domain.StoreRoleMap;
+
+/**
+ * 서명 검증을 마친 JWT의 내용
+ *
+ * @param subject           토큰 주체(계정 ID). refresh token은 null
+ * @param expiresAt         만료 시각(epoch 밀리초)
+ * @param storeRoles        매장별 역할 클레임. 없으면 null
+ * @param membershipVersion 역할 클레임을 만들 때의 계정 소속 버전. 역할 클레임이 없으면 -1
+ */
+public record VerifiedToken(String subject, long expiresAt, StoreRoleMap storeRoles, long membershipVersion) {
+
+    public boolean hasRoleClaims() {
+        return storeRoles != null;
+    }
+}
@@ -0,0 +1,83 @@
+package com.ss6051.backendspring.global.tool;
+
+import com.ss6051.backendspring.global.dto.JwtVerificationStatsDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서명 검증을 마친 JWT 캐시.
+ * 토큰 원문 대신 SHA-256 해시를 키로 저장하며, 같은 토큰으로 다시 요청하면 만료 전까지 서명 검증을 생략한다.
+ * 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거한다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final LinkedHashMap<String, VerifiedToken> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong verifications = new AtomicLong();
+    private final AtomicLong verificationNanos = new AtomicLong();
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > VerifiedTokenCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 검증된 토큰을 조회한다.
+     *
+     * @return 검증된 토큰. 없으면 null
+     */
+    public VerifiedToken get(String tokenHash) {
+        VerifiedToken token;
+        synchronized (entries) {
+            token = entries.get(tokenHash);
+        }
+        (token == null ? misses : hits).incrementAndGet();
+        return token;
+    }
+
+    public void put(String tokenHash, VerifiedToken token) {
+        synchronized (entries) {
+            entries.put(tokenHash, token);
+        }
+    }
+
+    public void remove(String tokenHash) {
+        synchronized (entries) {
+            entries.remove(tokenHash);
+        }
+    }
+
+    /**
+     * 서명 검증 소요 시간을 기록한다.
+     */
+    public void recordVerification(long nanos) {
+        verifications.incrementAndGet();
+        verificationNanos.addAndGet(nanos);
+    }
+
+    public JwtVerificationStatsDTO stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long verificationCount = verifications.get();
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        double hitRate = hitCount + missCount == 0 ? 0 : (double) hitCount / (hitCount + missCount);
+        double averageMicros = verificationCount == 0 ? 0 : verificationNanos.get() / 1_000.0 / verificationCount;
+        return new JwtVerificationStatsDTO(hitCount, missCount, hitRate, verificationCount, averageMicros, size);
+    }
+}
@@ -0,0 +1,26 @@
+package com.ss6051.backendspring.salary;
+
+import com.ss6051.backendspring.salary.domain.PayrollSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PayrollSnapshotRepository extends JpaRepository<PayrollSnapshot, Long> {
+    List<PayrollSnapshot> findAllByStoreIdAndPayMonth(Long storeId, LocalDate payMonth);
+
+    @Modifying
+    @Query("delete from PayrollSnapshot p where p.storeId = :storeId and p.accountId = :accountId and p.payMonth = :payMonth")
+    int deleteByStoreIdAndAccountIdAndPayMonth(@Param("storeId") Long storeId,
+                                               @Param("accountId") Long accountId,
+                                               @Param("payMonth") LocalDate payMonth);
+
+    @Modifying
+    @Query("delete from PayrollSnapshot p where p.storeId = :storeId")
+    int deleteAllByStoreId(@Param("storeId") Long storeId);
+}
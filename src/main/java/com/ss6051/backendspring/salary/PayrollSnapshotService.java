@@ -0,0 +1,118 @@
+package com.ss6051.backendspring.salary;
+
+import com.ss6051.backendspring.salary.domain.PayrollSnapshot;
+import com.ss6051.backendspring.store.StoreService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 마감된 월의 급여 스냅샷 관리.
+ * 지난 달 급여는 실제 근무 기록이 바뀌지 않는 한 다시 계산하지 않고 스냅샷을 그대로 사용한다.
+ * 계산에 사용한 근무 기록이 마감 전에 바뀌었는지는 소속 정보의 실제 근무 기록 변경 순번으로 확인한다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PayrollSnapshotService {
+
+    private final PayrollSnapshotRepository payrollSnapshotRepository;
+    private final StoreService storeService;
+
+    /**
+     * 매장의 특정 월 급여 스냅샷을 조회한다.
+     *
+     * @param storeId  매장 ID
+     * @param payMonth 급여 월
+     * @return {@code Map<Long, Long>} 계정 ID별 급여
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> findSalaries(long storeId, YearMonth payMonth) {
+        return payrollSnapshotRepository.findAllByStoreIdAndPayMonth(storeId, payMonth.atDay(1)).stream()
+                .collect(Collectors.toMap(PayrollSnapshot::getAccountId, PayrollSnapshot::getSalary));
+    }
+
+    /**
+     * 마감된 월의 급여를 스냅샷으로 기록한다.
+     * 급여 조회 트랜잭션(읽기 전용)과 분리하기 위해 새 트랜잭션에서 실행한다.
+     * 계산에 사용한 근무 기록을 읽은 뒤 근무 기록이 바뀐 계정은 기록하지 않는다. 다음 급여 조회 때 다시 계산된다.
+     *
+     * @param storeId       매장 ID
+     * @param payMonth      급여 월. 현재 월 이후는 아직 마감되지 않았으므로 기록하지 않는다
+     * @param salaries      계정 ID별 급여
+     * @param workRevisions 근무 기록을 읽기 전에 조회한 계정 ID별 실제 근무 기록 변경 순번
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void closeMonth(long storeId, YearMonth payMonth, Map<Long, Long> salaries, Map<Long, Long> workRevisions) {
+        if (salaries.isEmpty() || !payMonth.isBefore(YearMonth.now())) {
+            return;
+        }
+
+        // 변경 순번을 잠가 진행 중인 근무 기록 변경이 끝난 뒤에 비교한다. 이후의 변경은 이 트랜잭션이 끝난 다음 스냅샷을 지운다
+        Map<Long, Long> currentRevisions = storeService.lockWorkRevisions(storeId);
+        LocalDateTime now = LocalDateTime.now();
+        List<PayrollSnapshot> snapshots = salaries.entrySet().stream()
+                .filter(entry -> {
+                    Long revision = workRevisions.get(entry.getKey());
+                    if (revision == null || !revision.equals(currentRevisions.get(entry.getKey()))) {
+                        log.info("급여 스냅샷 기록 건너뜀 - 계산 중 근무 기록 변경: storeId={}, accountId={}, payMonth={}", storeId, entry.getKey(), payMonth);
+                        return false;
+                    }
+                    return true;
+                })
+                .map(entry -> PayrollSnapshot.builder()
+                        .storeId(storeId)
+                        .accountId(entry.getKey())
+                        .payMonth(payMonth.atDay(1))
+                        .salary(entry.getValue())
+                        .createdAt(now)
+                        .build())
+                .toList();
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        payrollSnapshotRepository.saveAll(snapshots);
+        log.info("급여 스냅샷 기록: storeId={}, payMonth={}, count={}", storeId, payMonth, snapshots.size());
+    }
+
+    /**
+     * 실제 근무 기록이 변경된 월의 급여 스냅샷을 삭제한다. 다음 급여 조회 때 다시 계산되어 기록된다.
+     * 근무 기록 변경 순번을 먼저 올려, 변경 전 근무 기록으로 계산 중인 급여가 스냅샷으로 기록되지 않게 한다.
+     *
+     * @param storeId   매장 ID
+     * @param accountId 계정 ID
+     * @param workDate  변경된 근무 기록의 시작일
+     */
+    @Transactional
+    public void invalidate(long storeId, long accountId, LocalDate workDate) {
+        storeService.incrementWorkRevision(storeId, accountId);
+        LocalDate payMonth = workDate.withDayOfMonth(1);
+        int deleted = payrollSnapshotRepository.deleteByStoreIdAndAccountIdAndPayMonth(storeId, accountId, payMonth);
+        if (deleted > 0) {
+            log.info("급여 스냅샷 무효화: storeId={}, accountId={}, payMonth={}", storeId, accountId, payMonth);
+        }
+    }
+
+    /**
+     * 매장의 모든 급여 스냅샷을 삭제한다. 매장 전체의 근무 시간 합계를 다시 만들 때 사용한다.
+     *
+     * @param storeId 매장 ID
+     */
+    @Transactional
+    public void invalidateStore(long storeId) {
+        storeService.incrementWorkRevisionOfStore(storeId);
+        int deleted = payrollSnapshotRepository.deleteAllByStoreId(storeId);
+        if (deleted > 0) {
+            log.info("급여 스냅샷 전체 무효화: storeId={}, count={}", storeId, deleted);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.ss6051.backendspring.salary;
 
+import com.ss6051.backendspring.salary.dto.SalaryCacheStatsDTO;
 import com.ss6051.backendspring.salary.dto.SalaryCalculateDTO;
 import com.ss6051.backendspring.salary.dto.SalaryRequestDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -28,16 +30,27 @@ public class SalaryController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "특정 기간 동안의 실제 근무 시간 기반 급여 계산",
-            description = "특정 기간 동안의 사용자의 실제 근무 시간을 기반으로 급여를 계산합니다. 주 단위로 계산하는 것을 권장합니다(정확도 높은 주휴수당 계산).",
+    @Operation(summary = "매장 전체 직원의 전월/당월 급여 계산",
+            description = "매장에 소속된 모든 직원의 전월과 당월 급여를 계산합니다. parallel=true 이면 직원별 계산을 병렬로 수행합니다. 각 항목의 computeTimeMicros는 해당 직원의 계산 시간(마이크로초)입니다.",
             tags = {"salary"}
     )
     @GetMapping("/calculate")
-    public ResponseEntity<List<SalaryCalculateDTO>> getSalary(@RequestParam("storeId") Long storeId) {
+    @PreAuthorize("hasPermission(#storeId, 'Store', 'MANAGE')")
+    public ResponseEntity<List<SalaryCalculateDTO>> getSalary(@RequestParam("storeId") Long storeId,
+                                                              @RequestParam(value = "parallel", defaultValue = "false") boolean parallel) {
 
-        List<SalaryCalculateDTO> salaryCalculateDTOS = salaryService.calculateSalary(storeId);
+        List<SalaryCalculateDTO> salaryCalculateDTOS = salaryService.calculateSalary(storeId, parallel);
 
         return ResponseEntity.ok(salaryCalculateDTOS);
     }
 
+    @Operation(summary = "급여 계산 캐시 통계 조회",
+            description = "기간별 급여 계산 결과 캐시의 적중/미스/제거/무효화 횟수와 현재 항목 수를 조회합니다. 관리자만 조회할 수 있습니다.",
+            tags = {"salary"}
+    )
+    @GetMapping("/cache/stats")
+    public ResponseEntity<SalaryCacheStatsDTO> getCacheStats() {
+        return ResponseEntity.ok(salaryService.getCacheStats());
+    }
+
 }
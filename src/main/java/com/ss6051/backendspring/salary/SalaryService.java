@@ -1,99 +1,87 @@
 package com.ss6051.backendspring.salary;
 
-import com.ss6051.backendspring.global.domain.Account;
+import com.ss6051.backendspring.salary.domain.PayrollSource;
+import com.ss6051.backendspring.salary.dto.SalaryCacheStatsDTO;
 import com.ss6051.backendspring.salary.dto.SalaryCalculateDTO;
-import com.ss6051.backendspring.schedule.actual.ActualWorkScheduleService;
-import com.ss6051.backendspring.schedule.actual.dto.ActualWorkTimeRequestDTO;
-import com.ss6051.backendspring.schedule.actual.dto.WorkTimeResultDto;
+import com.ss6051.backendspring.salary.tool.PayrollCalculator;
+import com.ss6051.backendspring.salary.tool.SalaryCache;
+import com.ss6051.backendspring.schedule.actual.DailyWorkSummaryService;
+import com.ss6051.backendspring.schedule.actual.tool.WorkTimePrefixSum;
 import com.ss6051.backendspring.schedule.basic.BasicWorkScheduleService;
+import com.ss6051.backendspring.schedule.basic.domain.BasicWorkSchedule;
 import com.ss6051.backendspring.schedule.basic.dto.BasicWorkReadDTO;
 import com.ss6051.backendspring.store.StoreService;
-import com.ss6051.backendspring.store.domain.Store;
 import com.ss6051.backendspring.store.domain.StoreAccount;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.time.YearMonth;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import static com.ss6051.backendspring.schedule.actual.domain.LaborLawConstant.FIVE_EMPLOYEES_STORE;
 
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class SalaryService {
 
     private final StoreService storeService;
-    private final ActualWorkScheduleService actualWorkScheduleService;
+    private final DailyWorkSummaryService dailyWorkSummaryService;
     private final BasicWorkScheduleService basicWorkScheduleService;
+    private final PayrollCalculator payrollCalculator;
+    private final PayrollSnapshotService payrollSnapshotService;
+    private final SalaryCache salaryCache;
+    private final TaskExecutor payrollExecutor;
+
+    public SalaryService(StoreService storeService,
+                         DailyWorkSummaryService dailyWorkSummaryService,
+                         BasicWorkScheduleService basicWorkScheduleService,
+                         PayrollCalculator payrollCalculator,
+                         PayrollSnapshotService payrollSnapshotService,
+                         SalaryCache salaryCache,
+                         @Qualifier("payrollExecutor") TaskExecutor payrollExecutor) {
+        this.storeService = storeService;
+        this.dailyWorkSummaryService = dailyWorkSummaryService;
+        this.basicWorkScheduleService = basicWorkScheduleService;
+        this.payrollCalculator = payrollCalculator;
+        this.payrollSnapshotService = payrollSnapshotService;
+        this.salaryCache = salaryCache;
+        this.payrollExecutor = payrollExecutor;
+    }
 
     @Transactional(readOnly = true)
     public Long calculateSalary(Long accountId, long storeId, LocalDate startDate, LocalDate endDate) {
-        Store store = storeService.findStore(storeId);
-        boolean hasMoreThanFiveEmployees = store.getEmployeeCount() >= 5; // 야간 수당 계산을 위한 조건
-
-        StoreAccount storeAccount = storeService.getAccount(accountId, storeId);
-        Long baseSalary = storeAccount.getBaseSalary(); // 기본급
-
-        List<LocalDate[]> weeks = splitIntoWeeks(startDate, endDate);
-        long totalDayWorkMins = 0, totalNightWorkMins = 0;
-        long salary = 0;
-
-        // 주휴수당 계산
-        // 월요일~일요일까지 근무 일정이 있는 날 중에서 근무 시간의 합을 근무 일정이 있는 날의 수로 나눈 값을 가져오기
-        int weeklyHolidayAllowance = 0; // 주휴수당 지급 대상 주
-        AtomicReference<AtomicLong> holidayAllowanceDividend = new AtomicReference<>(new AtomicLong()); // 주휴수당 기준 주간 소정근로시간
-        AtomicInteger holidayAllowanceDivisor = new AtomicInteger(); // 주휴수당 지급 대상 일수
-        basicWorkScheduleService.findAllBasicWorkSchedule(new BasicWorkReadDTO(storeId, accountId)).stream()
-                .filter(schedule -> schedule.getStartTime() != null && schedule.getEndTime() != null)
-                .forEach(schedule -> {
-                    holidayAllowanceDividend.updateAndGet(v -> new AtomicLong(v.addAndGet(Duration.between(schedule.getStartTime(), schedule.getEndTime()).toMinutes())));
-                    holidayAllowanceDivisor.getAndIncrement();
-                });
-
-        for (LocalDate[] week : weeks) {
-            final ActualWorkTimeRequestDTO dto = new ActualWorkTimeRequestDTO(storeId, hasMoreThanFiveEmployees, week[0].atStartOfDay(), week[1].atStartOfDay());
-            WorkTimeResultDto result = actualWorkScheduleService.getActualWorkTimeInPeriodOfUser(dto, accountId);
-            totalDayWorkMins += result.dayShiftMinute();
-            totalNightWorkMins += result.nightShiftMinute();
-
-            if (result.dayShiftMinute() + result.nightShiftMinute() >= 900) { // 주 15시간 이상 근무시 주휴수당 계산
-                weeklyHolidayAllowance++;
-            }
+        Long cachedSalary = salaryCache.get(storeId, accountId, startDate, endDate);
+        if (cachedSalary != null) {
+            return cachedSalary;
         }
+        long cacheVersion = salaryCache.version();
 
-        // 분 단위를 시간으로 바꾸고, 주간 근무시간에 기본급을 곱하고 야간 근무시간에는 1.5배를 곱하여 합산
-        salary += (long) ((totalDayWorkMins / 60 * baseSalary) + (totalNightWorkMins / 60 * baseSalary * 1.5));
+        // 매장 인원 수 컬럼만 조회 - 소속 목록을 불러오지 않는다
+        boolean hasMoreThanFiveEmployees = storeService.getHeadcount(storeId) >= FIVE_EMPLOYEES_STORE.getValue(); // 야간 수당 계산을 위한 조건
 
-        // 주휴수당 계산: 주휴수당 지급 대상 주가 1주 이상일 때 (, 주휴수당 기준 소정근로일수가 0이 아닐 때-버그 방지)
-        if (holidayAllowanceDivisor.get() > 0 && weeklyHolidayAllowance > 0) {
-            // 기본급 * (주휴수당 기준 근로시간 / 주휴수당 지급 대상 일수)
-            salary += baseSalary * holidayAllowanceDividend.get().get() / holidayAllowanceDivisor.get();
-        }
+        StoreAccount storeAccount = storeService.getAccount(accountId, storeId);
+
+        // 계정의 근무 시간 누적 합으로 주 단위 근무 시간을 구해 계산
+        List<BasicWorkSchedule> basicWorkSchedules = basicWorkScheduleService.findAllBasicWorkSchedule(new BasicWorkReadDTO(storeId, accountId));
+        WorkTimePrefixSum workTime = dailyWorkSummaryService.getPrefixSum(storeId, accountId, startDate, endDate);
 
+        PayrollSource source = PayrollSource.of(hasMoreThanFiveEmployees, accountId, workTime, basicWorkSchedules);
+        long salary = payrollCalculator.calculateSalary(storeAccount.getBaseSalary(), source, accountId, startDate, endDate);
+        salaryCache.put(storeId, accountId, startDate, endDate, salary, cacheVersion);
         return salary;
     }
 
-    // 시작 일 기준으로 7일씩 나누어진 주의 시작일과 종료일을 반환
-    private List<LocalDate[]> splitIntoWeeks(LocalDate startDate, LocalDate endDate) {
-        List<LocalDate[]> weeks = new ArrayList<>();
-
-        LocalDate currentStart = startDate;
-        while (currentStart.isBefore(endDate) || currentStart.equals(endDate)) {
-            LocalDate currentEnd = currentStart.plusDays(6);
-            if (currentEnd.isAfter(endDate)) {
-                currentEnd = endDate;
-            }
-            weeks.add(new LocalDate[]{currentStart, currentEnd});
-            currentStart = currentEnd.plusDays(1);
-        }
-
-        return weeks;
+    public SalaryCacheStatsDTO getCacheStats() {
+        return salaryCache.stats();
     }
 
         /*
@@ -104,17 +92,105 @@ public class SalaryService {
 
 
     // 시급 계산. 매장 id를 받으면, 해당 매장의 모든 직원들의 전월과 당월 근무 시간을 가져오고, 해당 직원의 기본급을 가져와서 계산한다.
+    // 매장 소속 계정, 기본 근무 일정, 전월~당월 날짜별 근무 시간 합계를 각각 한 번씩만 조회하므로 직원 수와 관계없이 쿼리 수가 일정하다.
     @Transactional(readOnly = true)
     public List<SalaryCalculateDTO> calculateSalary(Long storeId) {
-        Store store = storeService.findStore(storeId);
-        List<StoreAccount> employeeList = store.getEmployeeList();
-        return employeeList.stream().map(storeAccount -> {
-            Account account = storeAccount.getAccount();
-            long accountId = account.getId();
-            long lastMonthSalary = calculateSalary(accountId, storeId, LocalDate.now().minusMonths(1).withDayOfMonth(1), LocalDate.now().minusMonths(1).withDayOfMonth(LocalDate.now().minusMonths(1).lengthOfMonth()));
-            long thisMonthSalary = calculateSalary(accountId, storeId, LocalDate.now().withDayOfMonth(1), LocalDate.now());
-            return new SalaryCalculateDTO(accountId, lastMonthSalary, thisMonthSalary);
-        }).toList();
+        return calculateSalary(storeId, false);
+    }
+
+    /**
+     * 매장의 모든 직원의 전월/당월 급여를 계산한다.
+     * 전월 급여는 마감 스냅샷이 있으면 그대로 사용하고, 없는 직원만 계산한 뒤 스냅샷으로 기록한다.
+     * 병렬 계산 시 조회는 요청 스레드에서 끝내고, 작업 스레드는 읽기 전용 {@link PayrollSource}만 사용하므로 JPA 세션에 접근하지 않는다.
+     *
+     * @param storeId  매장 ID
+     * @param parallel 직원별 계산을 급여 계산 전용 스레드 풀에 나누어 실행할지 여부
+     * @return {@code List<SalaryCalculateDTO>} 직원별 급여 계산 결과
+     */
+    @Transactional(readOnly = true)
+    public List<SalaryCalculateDTO> calculateSalary(Long storeId, boolean parallel) {
+        LocalDate today = LocalDate.now();
+        YearMonth lastMonth = YearMonth.from(today).minusMonths(1);
+        LocalDate lastMonthStart = lastMonth.atDay(1);
+        LocalDate lastMonthEnd = lastMonth.atEndOfMonth();
+        LocalDate thisMonthStart = today.withDayOfMonth(1);
+
+        // 근무 기록 변경 순번은 근무 기록보다 먼저 읽는다 - 마감 시 그 사이의 변경을 알아챌 수 있도록
+        List<StoreAccount> storeAccounts = storeService.findAllStoreAccounts(storeId);
+        Map<Long, Long> workRevisions = storeAccounts.stream()
+                .collect(Collectors.toMap(storeAccount -> storeAccount.getAccount().getId(), StoreAccount::getWorkRevision));
+        // 매장 인원 수 컬럼으로 판단 - 계정별 계산(calculateSalary(accountId, ...))과 같은 기준
+        boolean hasMoreThanFiveEmployees = storeService.getHeadcount(storeId) >= FIVE_EMPLOYEES_STORE.getValue(); // 야간 수당 계산을 위한 조건
+
+        // 모든 직원의 전월 스냅샷이 있으면 당월 합계만 조회
+        Map<Long, Long> closedSalaries = payrollSnapshotService.findSalaries(storeId, lastMonth);
+        boolean lastMonthClosed = storeAccounts.stream()
+                .allMatch(storeAccount -> closedSalaries.containsKey(storeAccount.getAccount().getId()));
+        LocalDate loadStart = lastMonthClosed ? thisMonthStart : lastMonthStart;
+
+        PayrollSource source = PayrollSource.of(hasMoreThanFiveEmployees,
+                dailyWorkSummaryService.findSummariesOfStore(storeId, loadStart, today),
+                basicWorkScheduleService.findAllBasicWorkScheduleOfStore(storeId));
+
+        List<SalaryCalculateDTO> results;
+        if (!parallel) {
+            results = storeAccounts.stream()
+                    .map(storeAccount -> {
+                        long accountId = storeAccount.getAccount().getId();
+                        return calculateSalary(accountId, storeAccount.getBaseSalary(), closedSalaries.get(accountId), source,
+                                lastMonthStart, lastMonthEnd, thisMonthStart, today);
+                    })
+                    .toList();
+        } else {
+            List<CompletableFuture<SalaryCalculateDTO>> futures = storeAccounts.stream()
+                    .map(storeAccount -> {
+                        // 엔티티 대신 값만 넘겨 작업 스레드에서 지연 로딩이 일어나지 않도록 한다
+                        long accountId = storeAccount.getAccount().getId();
+                        Long baseSalary = storeAccount.getBaseSalary();
+                        Long closedSalary = closedSalaries.get(accountId);
+                        return CompletableFuture.supplyAsync(() -> calculateSalary(accountId, baseSalary, closedSalary, source,
+                                lastMonthStart, lastMonthEnd, thisMonthStart, today), payrollExecutor);
+                    })
+                    .toList();
+
+            try {
+                results = futures.stream().map(CompletableFuture::join).toList();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        closeLastMonth(storeId, lastMonth, closedSalaries, workRevisions, results);
+        return results;
+    }
+
+    private SalaryCalculateDTO calculateSalary(long accountId, Long baseSalary, Long closedSalary, PayrollSource source,
+                                               LocalDate lastMonthStart, LocalDate lastMonthEnd,
+                                               LocalDate thisMonthStart, LocalDate today) {
+        long start = System.nanoTime();
+        long lastMonthSalary = closedSalary != null
+                ? closedSalary
+                : payrollCalculator.calculateSalary(baseSalary, source, accountId, lastMonthStart, lastMonthEnd);
+        long thisMonthSalary = payrollCalculator.calculateSalary(baseSalary, source, accountId, thisMonthStart, today);
+        long computeTimeMicros = (System.nanoTime() - start) / 1_000;
+        return new SalaryCalculateDTO(accountId, lastMonthSalary, thisMonthSalary, computeTimeMicros);
+    }
+
+    // 스냅샷이 없던 직원의 전월 급여를 스냅샷으로 기록
+    private void closeLastMonth(long storeId, YearMonth lastMonth, Map<Long, Long> closedSalaries, Map<Long, Long> workRevisions,
+                                List<SalaryCalculateDTO> results) {
+        Map<Long, Long> newlyClosed = results.stream()
+                .filter(result -> !closedSalaries.containsKey(result.id()))
+                .collect(Collectors.toMap(SalaryCalculateDTO::id, SalaryCalculateDTO::prevSalary, (a, b) -> a));
+        try {
+            payrollSnapshotService.closeMonth(storeId, lastMonth, newlyClosed, workRevisions);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 다른 요청이 먼저 기록한 경우 - 다음 조회부터 해당 스냅샷을 사용
+            log.info("급여 스냅샷 기록 건너뜀 - 이미 기록됨: storeId={}, payMonth={}", storeId, lastMonth);
+        }
     }
 
 }
@@ -0,0 +1,41 @@
+package com.ss6051.backendspring.salary.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 마감된 월의 직원별 급여 계산 결과.
+ * 한 번 기록되면 수정하지 않으며, 해당 월의 실제 근무 기록이 변경되면 삭제 후 다시 계산된다.
+ */
+@Entity
+@Immutable
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"store_id", "account_id", "pay_month"}))
+public class PayrollSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payroll_snapshot_seq")
+    @SequenceGenerator(name = "payroll_snapshot_seq", sequenceName = "payroll_snapshot_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId; // 매장 ID
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId; // 계정 ID
+
+    @Column(name = "pay_month", nullable = false)
+    private LocalDate payMonth; // 급여 월(해당 월 1일)
+
+    private Long salary; // 급여
+
+    private LocalDateTime createdAt; // 마감 시각
+}
@@ -0,0 +1,56 @@
+package com.ss6051.backendspring.salary.domain;
+
+import com.ss6051.backendspring.schedule.actual.domain.DailyWorkSummary;
+import com.ss6051.backendspring.schedule.actual.tool.WorkTimePrefixSum;
+import com.ss6051.backendspring.schedule.basic.domain.BasicWorkSchedule;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 급여 계산에 필요한 근무 기록을 계정 ID별로 묶어둔 읽기 전용 데이터.
+ * 한 번의 조회로 불러온 기록을 담아두고, 급여 계산 중에는 DB에 접근하지 않는다.
+ * 변경할 수 없는 컬렉션만 담으므로 여러 스레드에서 동시에 읽어도 안전하다.
+ *
+ * @param hasMoreThanFiveEmployees 야간 수당 계산 대상 매장(5인 이상) 여부
+ * @param workTimes                계정 ID별 근무 시간 누적 합
+ * @param basicWorkSchedules       계정 ID별 기본 근무 일정
+ */
+public record PayrollSource(boolean hasMoreThanFiveEmployees,
+                            Map<Long, WorkTimePrefixSum> workTimes,
+                            Map<Long, List<BasicWorkSchedule>> basicWorkSchedules) {
+
+    private static final WorkTimePrefixSum NO_WORK_TIME = WorkTimePrefixSum.of(List.of());
+
+    public static PayrollSource of(boolean hasMoreThanFiveEmployees,
+                                   List<DailyWorkSummary> dailyWorkSummaries,
+                                   List<BasicWorkSchedule> basicWorkSchedules) {
+        Map<Long, WorkTimePrefixSum> workTimes = groupByAccountId(dailyWorkSummaries, DailyWorkSummary::getAccountId).entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> WorkTimePrefixSum.of(entry.getValue())));
+        return new PayrollSource(hasMoreThanFiveEmployees, workTimes,
+                groupByAccountId(basicWorkSchedules, schedule -> schedule.getAccount().getId()));
+    }
+
+    // 한 계정의 급여만 계산할 때 사용. 누적 합은 이미 만들어진 것을 그대로 사용한다
+    public static PayrollSource of(boolean hasMoreThanFiveEmployees, long accountId,
+                                   WorkTimePrefixSum workTime,
+                                   List<BasicWorkSchedule> basicWorkSchedules) {
+        return new PayrollSource(hasMoreThanFiveEmployees, Map.of(accountId, workTime), Map.of(accountId, List.copyOf(basicWorkSchedules)));
+    }
+
+    private static <T> Map<Long, List<T>> groupByAccountId(List<T> schedules, Function<T, Long> accountIdGetter) {
+        return schedules.stream().collect(Collectors.collectingAndThen(
+                Collectors.groupingBy(accountIdGetter, Collectors.toUnmodifiableList()),
+                Map::copyOf));
+    }
+
+    public WorkTimePrefixSum workTimeOf(long accountId) {
+        return workTimes.getOrDefault(accountId, NO_WORK_TIME);
+    }
+
+    public List<BasicWorkSchedule> basicWorkSchedulesOf(long accountId) {
+        return basicWorkSchedules.getOrDefault(accountId, List.of());
+    }
+}
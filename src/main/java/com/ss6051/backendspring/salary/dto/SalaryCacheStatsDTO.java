@@ -0,0 +1,13 @@
+package com.ss6051.backendspring.salary.dto;
+
+/**
+ * 급여 계산 결과 캐시 통계
+ *
+ * @param hits          캐시 적중 횟수
+ * @param misses        캐시 미스 횟수
+ * @param evictions     크기 제한 또는 만료로 제거된 항목 수
+ * @param invalidations 근무 기록/기본급 변경으로 무효화된 항목 수
+ * @param size          현재 캐시 항목 수
+ */
+public record SalaryCacheStatsDTO(long hits, long misses, long evictions, long invalidations, int size) {
+}
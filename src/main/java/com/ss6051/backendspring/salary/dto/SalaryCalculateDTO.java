@@ -1,4 +1,12 @@
 package com.ss6051.backendspring.salary.dto;
 
-public record SalaryCalculateDTO(Long id, Long prevSalary, Long currentSalary) {
+/**
+ * 직원별 전월/당월 급여 계산 결과
+ *
+ * @param id                 계정 ID
+ * @param prevSalary         전월 급여
+ * @param currentSalary      당월 급여
+ * @param computeTimeMicros  해당 직원의 급여 계산에 걸린 시간(마이크로초)
+ */
+public record SalaryCalculateDTO(Long id, Long prevSalary, Long currentSalary, Long computeTimeMicros) {
 }
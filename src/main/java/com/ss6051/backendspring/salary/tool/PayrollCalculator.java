@@ -0,0 +1,120 @@
+package com.ss6051.backendspring.salary.tool;
+
+import com.ss6051.backendspring.salary.domain.PayrollSource;
+import com.ss6051.backendspring.schedule.actual.dto.WorkTimeResultDto;
+import com.ss6051.backendspring.schedule.actual.tool.WorkTimePrefixSum;
+import com.ss6051.backendspring.schedule.basic.domain.BasicWorkSchedule;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미리 조회된 근무 시간 누적 합({@link PayrollSource})으로 급여를 계산한다.
+ * DB에 접근하지 않으므로 매장 전체 직원의 급여를 한 번의 조회 후 메모리에서 계산할 수 있다.
+ */
+@Component
+public class PayrollCalculator {
+
+    private static final int WEEKLY_HOLIDAY_ALLOWANCE_MINUTES = 900; // 주 15시간
+
+    /**
+     * 한 계정의 특정 기간 급여를 계산한다.
+     *
+     * @param baseSalary 기본급(시급)
+     * @param source     급여 계산 대상 근무 기록
+     * @param accountId  계정 ID
+     * @param startDate  시작일
+     * @param endDate    종료일
+     * @return 급여
+     */
+    public long calculateSalary(Long baseSalary, PayrollSource source, long accountId, LocalDate startDate, LocalDate endDate) {
+        List<WorkTimeResultDto> weeklyWorkTimes = calculateWeeklyWorkTime(
+                source.workTimeOf(accountId), source.hasMoreThanFiveEmployees(), startDate, endDate);
+        return calculateSalary(baseSalary, source.basicWorkSchedulesOf(accountId), weeklyWorkTimes);
+    }
+
+    /**
+     * 주 단위 근무 시간과 기본 근무 일정으로 급여를 계산한다.
+     *
+     * @param baseSalary         기본급(시급). 설정되지 않은 경우 0원으로 계산
+     * @param basicWorkSchedules 주휴수당 계산에 사용할 기본 근무 일정
+     * @param weeklyWorkTimes    주 단위 실제 근무 시간
+     * @return 급여
+     */
+    public long calculateSalary(Long baseSalary, List<BasicWorkSchedule> basicWorkSchedules, List<WorkTimeResultDto> weeklyWorkTimes) {
+        long salaryPerHour = baseSalary == null ? 0 : baseSalary;
+        long totalDayWorkMins = 0, totalNightWorkMins = 0;
+        long salary = 0;
+
+        // 주휴수당 계산
+        // 월요일~일요일까지 근무 일정이 있는 날 중에서 근무 시간의 합을 근무 일정이 있는 날의 수로 나눈 값을 가져오기
+        int weeklyHolidayAllowance = 0; // 주휴수당 지급 대상 주
+        long holidayAllowanceDividend = 0; // 주휴수당 기준 주간 소정근로시간
+        int holidayAllowanceDivisor = 0; // 주휴수당 지급 대상 일수
+        for (BasicWorkSchedule schedule : basicWorkSchedules) {
+            if (schedule.getStartTime() != null && schedule.getEndTime() != null) {
+                holidayAllowanceDividend += Duration.between(schedule.getStartTime(), schedule.getEndTime()).toMinutes();
+                holidayAllowanceDivisor++;
+            }
+        }
+
+        for (WorkTimeResultDto result : weeklyWorkTimes) {
+            totalDayWorkMins += result.dayShiftMinute();
+            totalNightWorkMins += result.nightShiftMinute();
+
+            if (result.dayShiftMinute() + result.nightShiftMinute() >= WEEKLY_HOLIDAY_ALLOWANCE_MINUTES) { // 주 15시간 이상 근무시 주휴수당 계산
+                weeklyHolidayAllowance++;
+            }
+        }
+
+        // 분 단위를 시간으로 바꾸고, 주간 근무시간에 기본급을 곱하고 야간 근무시간에는 1.5배를 곱하여 합산
+        salary += (long) ((totalDayWorkMins / 60 * salaryPerHour) + (totalNightWorkMins / 60 * salaryPerHour * 1.5));
+
+        // 주휴수당 계산: 주휴수당 지급 대상 주가 1주 이상일 때 (, 주휴수당 기준 소정근로일수가 0이 아닐 때-버그 방지)
+        if (holidayAllowanceDivisor > 0 && weeklyHolidayAllowance > 0) {
+            // 기본급 * (주휴수당 기준 근로시간 / 주휴수당 지급 대상 일수)
+            salary += salaryPerHour * holidayAllowanceDividend / holidayAllowanceDivisor;
+        }
+
+        return salary;
+    }
+
+    /**
+     * 근무 시간 누적 합을 주 단위로 나누어 근무 시간을 구한다.
+     * 각 주의 시작일부터 종료일까지(종료일 포함) 시작한 근무가 해당 주의 계산 대상이다.
+     *
+     * @param workTime                 근무 시간 누적 합
+     * @param hasMoreThanFiveEmployees 야간 수당 계산 대상 매장(5인 이상) 여부. 아니면 야간 근무 시간도 주간 근무로 계산
+     * @param startDate                시작일
+     * @param endDate                  종료일
+     * @return {@code List<WorkTimeResultDto>} 주 단위 근무 시간
+     */
+    public List<WorkTimeResultDto> calculateWeeklyWorkTime(WorkTimePrefixSum workTime, boolean hasMoreThanFiveEmployees,
+                                                           LocalDate startDate, LocalDate endDate) {
+        List<WorkTimeResultDto> results = new ArrayList<>();
+        for (LocalDate[] week : splitIntoWeeks(startDate, endDate)) {
+            results.add(workTime.sum(week[0], week[1], hasMoreThanFiveEmployees));
+        }
+        return results;
+    }
+
+    // 시작 일 기준으로 7일씩 나누어진 주의 시작일과 종료일을 반환
+    public static List<LocalDate[]> splitIntoWeeks(LocalDate startDate, LocalDate endDate) {
+        List<LocalDate[]> weeks = new ArrayList<>();
+
+        LocalDate currentStart = startDate;
+        while (currentStart.isBefore(endDate) || currentStart.equals(endDate)) {
+            LocalDate currentEnd = currentStart.plusDays(6);
+            if (currentEnd.isAfter(endDate)) {
+                currentEnd = endDate;
+            }
+            weeks.add(new LocalDate[]{currentStart, currentEnd});
+            currentStart = currentEnd.plusDays(1);
+        }
+
+        return weeks;
+    }
+}
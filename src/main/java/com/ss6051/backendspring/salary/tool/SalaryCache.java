@@ -0,0 +1,193 @@
+package com.ss6051.backendspring.salary.tool;
+
+import com.ss6051.backendspring.salary.dto.SalaryCacheStatsDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 기간별 급여 계산 결과 캐시.
+ * (매장, 계정, 시작일, 종료일) 단위로 저장하며, 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터, 만료 시간이 지나면 조회 시점에 제거한다.
+ * 급여에 영향을 주는 데이터(실제 근무 기록, 기본 근무 일정, 기본급, 매장 인원)가 바뀌면 해당 항목을 무효화한다.
+ * 무효화는 (매장, 계정)별, 매장별 키 색인으로 대상 항목만 찾으므로 캐시 크기와 관계없이 해당 항목 수만큼만 걸린다.
+ */
+@Component
+@Slf4j
+public class SalaryCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<Key, Entry> entries;
+    // 무효화 대상을 찾는 색인. entries와 함께 entries 잠금 안에서만 변경한다
+    private final Map<AccountKey, Set<Key>> keysByAccount = new HashMap<>();
+    private final Map<Long, Set<Key>> keysByStore = new HashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    // 무효화가 일어날 때마다 증가. 계산 도중 무효화된 결과가 캐시에 들어가지 않도록 한다
+    private final AtomicLong version = new AtomicLong();
+
+    public SalaryCache(@Value("${salary.cache.max-size:10000}") int maxSize,
+                       @Value("${salary.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > SalaryCache.this.maxSize) {
+                    unindex(eldest.getKey());
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 급여를 조회한다.
+     *
+     * @return 캐시된 급여. 없거나 만료되었으면 null
+     */
+    public Long get(long storeId, long accountId, LocalDate startDate, LocalDate endDate) {
+        Key key = new Key(storeId, accountId, startDate, endDate);
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && System.nanoTime() - entry.createdAt() > ttlNanos) {
+                remove(key);
+                evictions.incrementAndGet();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            return entry.salary();
+        }
+    }
+
+    /**
+     * 계산 시작 시점의 캐시 버전. {@link #put}에 함께 넘긴다.
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 계산된 급여를 저장한다. 계산을 시작한 뒤 무효화가 있었다면 저장하지 않는다.
+     *
+     * @param versionAtStart 계산 시작 전에 {@link #version()}으로 얻은 값
+     */
+    public void put(long storeId, long accountId, LocalDate startDate, LocalDate endDate, long salary, long versionAtStart) {
+        synchronized (entries) {
+            if (version.get() != versionAtStart) {
+                return;
+            }
+            Key key = new Key(storeId, accountId, startDate, endDate);
+            // 색인을 먼저 추가 - 저장하면서 최대 크기를 넘어 제거되는 항목은 색인에서도 빠진다
+            keysByAccount.computeIfAbsent(new AccountKey(storeId, accountId), id -> new HashSet<>()).add(key);
+            keysByStore.computeIfAbsent(storeId, id -> new HashSet<>()).add(key);
+            entries.put(key, new Entry(salary, System.nanoTime()));
+        }
+    }
+
+    /**
+     * 특정 날짜를 포함하는 기간의 급여를 무효화한다. 실제 근무 기록 변경 시 사용한다.
+     */
+    public void invalidate(long storeId, long accountId, LocalDate workDate) {
+        invalidateIf(() -> keysByAccount.get(new AccountKey(storeId, accountId)),
+                key -> !workDate.isBefore(key.startDate()) && !workDate.isAfter(key.endDate()));
+    }
+
+    /**
+     * 계정의 모든 기간 급여를 무효화한다. 기본 근무 일정, 기본급 변경 시 사용한다.
+     */
+    public void invalidate(long storeId, long accountId) {
+        invalidateIf(() -> keysByAccount.get(new AccountKey(storeId, accountId)), key -> true);
+    }
+
+    /**
+     * 매장의 모든 급여를 무효화한다. 매장 인원 변경으로 야간 수당 적용 여부가 바뀔 수 있을 때 사용한다.
+     */
+    public void invalidateStore(long storeId) {
+        invalidateIf(() -> keysByStore.get(storeId), key -> true);
+    }
+
+    public SalaryCacheStatsDTO stats() {
+        synchronized (entries) {
+            return new SalaryCacheStatsDTO(hits.get(), misses.get(), evictions.get(), invalidations.get(), entries.size());
+        }
+    }
+
+    // 변경 중인 트랜잭션이 있으면 커밋 이후에도 한 번 더 무효화 - 커밋 전 데이터로 계산된 결과가 남지 않도록 한다
+    private void invalidateIf(Supplier<Set<Key>> candidates, Predicate<Key> predicate) {
+        removeIf(candidates, predicate);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeIf(candidates, predicate);
+                }
+            });
+        }
+    }
+
+    // 색인에서 찾은 후보 중 조건에 맞는 항목만 제거. 후보 집합은 잠금 안에서 조회한다
+    private void removeIf(Supplier<Set<Key>> candidates, Predicate<Key> predicate) {
+        synchronized (entries) {
+            version.incrementAndGet();
+            Set<Key> keys = candidates.get();
+            if (keys == null) {
+                return;
+            }
+            for (Key key : List.copyOf(keys)) { // 제거하면서 색인이 바뀌므로 복사본으로 순회
+                if (predicate.test(key)) {
+                    remove(key);
+                    invalidations.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private void remove(Key key) {
+        entries.remove(key);
+        unindex(key);
+    }
+
+    private void unindex(Key key) {
+        AccountKey accountKey = new AccountKey(key.storeId(), key.accountId());
+        Set<Key> accountKeys = keysByAccount.get(accountKey);
+        if (accountKeys != null && accountKeys.remove(key) && accountKeys.isEmpty()) {
+            keysByAccount.remove(accountKey);
+        }
+        Set<Key> storeKeys = keysByStore.get(key.storeId());
+        if (storeKeys != null && storeKeys.remove(key) && storeKeys.isEmpty()) {
+            keysByStore.remove(key.storeId());
+        }
+    }
+
+    private record Key(long storeId, long accountId, LocalDate startDate, LocalDate endDate) {
+    }
+
+    private record AccountKey(long storeId, long accountId) {
+    }
+
+    private record Entry(long salary, long createdAt) {
+    }
+}
@@ -12,6 +12,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -23,6 +24,7 @@ import java.util.List;
 public class ActualWorkScheduleController {
 
     private final ActualWorkScheduleService actualWorkScheduleService;
+    private final DailyWorkSummaryService dailyWorkSummaryService;
 
     @Operation(summary = "실제 근무 스케줄 생성",
             description = "매장의 실제 근무 스케줄을 생성합니다. 근무 스케줄 조회와 동일한 결과를 반환합니다. 출퇴근 기록 작성에도 사용 가능합니다.",
@@ -45,6 +47,30 @@ public class ActualWorkScheduleController {
         return ResponseEntity.ok().body(id);
     }
 
+    @Operation(summary = "실제 근무 스케줄 일괄 생성",
+            description = "여러 매장, 여러 직원의 실제 근무 스케줄을 한 번에 생성합니다. 출퇴근 기록을 모아서 보낼 때 사용합니다. " +
+                    "accountId를 생략하면 요청한 계정의 기록으로 생성하며, 다른 계정의 기록은 해당 매장의 사장 또는 관리자만 생성할 수 있습니다. " +
+                    "요청 순서대로 항목별 결과(생성된 ID 또는 오류 코드)를 반환합니다.",
+            tags = {"schedule"},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "실제 근무 스케줄 일괄 생성 완료",
+                            content = @Content(mediaType = "application/json", examples = {
+                                    @ExampleObject(value = """
+                                            [
+                                                { "index": 0, "id": 101, "errorCode": null, "message": null },
+                                                { "index": 1, "id": null, "errorCode": "ERR300", "message": "해당 작업을 수행할 권한이 없습니다." }
+                                            ]
+                                            """)}))
+            }
+    )
+    @PostMapping("/bulk")
+    public ResponseEntity<List<ActualWorkBulkResultDTO>> createActualWorkSchedules(@RequestBody ActualWorkBulkCreationDTO dto) {
+        log.info("createActualWorkSchedules");
+
+        long accountId = JwtTokenProvider.getAccountIdFromSecurity();
+        return ResponseEntity.ok(actualWorkScheduleService.createActualWorkSchedules(dto, accountId));
+    }
+
     @Operation(summary = "특정 매장에 근무중인 한 명의 직원의 실제 근무 스케줄 조회",
             description = "특정 매장에 근무중인 한 명의 직원의 실제 근무 스케줄을 조회합니다.",
             tags = {"schedule"},
@@ -186,4 +212,20 @@ public class ActualWorkScheduleController {
         return ResponseEntity.ok(actualWorkTime);
     }
 
+    @Operation(summary = "날짜별 근무 시간 합계 재생성",
+            description = "매장의 실제 근무 기록으로부터 급여 계산에 사용하는 날짜별 근무 시간 합계를 다시 만듭니다. 생성된 합계 수를 반환합니다.",
+            tags = {"schedule"},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "날짜별 근무 시간 합계 재생성 성공",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = Integer.class)))
+            }
+    )
+    @PostMapping("/summary/rebuild")
+    @PreAuthorize("hasPermission(#storeId, 'Store', 'MANAGE')")
+    public ResponseEntity<Integer> rebuildDailyWorkSummary(@RequestParam("storeId") long storeId) {
+        log.info("rebuildDailyWorkSummary");
+
+        return ResponseEntity.ok(dailyWorkSummaryService.rebuild(storeId));
+    }
+
 }
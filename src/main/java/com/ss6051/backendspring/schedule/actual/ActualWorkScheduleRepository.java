@@ -4,13 +4,15 @@ import com.ss6051.backendspring.global.domain.Account;
 import com.ss6051.backendspring.schedule.actual.domain.ActualWorkSchedule;
 import com.ss6051.backendspring.schedule.common.domain.Schedule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface ActualWorkScheduleRepository extends JpaRepository<ActualWorkSchedule, Long> {
+public interface ActualWorkScheduleRepository extends JpaRepository<ActualWorkSchedule, Long>, ActualWorkScheduleRepositoryCustom {
     List<ActualWorkSchedule> findAllBySchedule(Schedule schedule);
     List<ActualWorkSchedule> findAllByScheduleAndAccount(Schedule schedule, Account account);
 
@@ -21,4 +23,11 @@ public interface ActualWorkScheduleRepository extends JpaRepository<ActualWorkSc
             LocalDateTime startDateTimeEnd
     );
 
+    // 매장의 모든 실제 근무 기록을 계정과 함께 조회 (날짜별 합계 재생성용)
+    @Query("select a from ActualWorkSchedule a join fetch a.account where a.schedule.id = :storeId")
+    List<ActualWorkSchedule> findAllWithAccountByStoreId(@Param("storeId") Long storeId);
+
+    @Query("select distinct a.schedule.id from ActualWorkSchedule a")
+    List<Long> findAllStoreIds();
+
 }
@@ -0,0 +1,23 @@
+package com.ss6051.backendspring.schedule.actual;
+
+import com.ss6051.backendspring.schedule.actual.dto.WorkTimeResultDto;
+
+import java.time.LocalDateTime;
+
+public interface ActualWorkScheduleRepositoryCustom {
+
+    /**
+     * 한 계정의 특정 기간 근무 시간 합을 DB에서 집계한다.
+     * 근무 기록을 엔티티로 불러오지 않고 주간/야간 근무 시간(분)과 근무 일수만 반환한다.
+     *
+     * @param storeId                  매장 ID
+     * @param accountId                계정 ID
+     * @param startDateTime            조회 시작 일시(포함)
+     * @param endDateTime              조회 종료 일시(포함)
+     * @param hasMoreThanFiveEmployees 야간 수당 계산 대상 매장(5인 이상) 여부
+     * @return {@code WorkTimeResultDto} 주간/야간 근무 시간(분)과 근무 일수
+     */
+    WorkTimeResultDto aggregateWorkTime(long storeId, long accountId,
+                                        LocalDateTime startDateTime, LocalDateTime endDateTime,
+                                        boolean hasMoreThanFiveEmployees);
+}
@@ -0,0 +1,79 @@
+package com.ss6051.backendspring.schedule.actual;
+
+import com.ss6051.backendspring.schedule.actual.dto.WorkTimeResultDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.time.LocalDateTime;
+
+import static com.ss6051.backendspring.schedule.actual.tool.WorkTimeCalculator.MINUTES_PER_DAY;
+import static com.ss6051.backendspring.schedule.actual.tool.WorkTimeCalculator.MINUTES_PER_HOUR;
+import static com.ss6051.backendspring.schedule.actual.tool.WorkTimeCalculator.NIGHT_END_MINUTE;
+import static com.ss6051.backendspring.schedule.actual.tool.WorkTimeCalculator.NIGHT_MINUTES_PER_DAY;
+import static com.ss6051.backendspring.schedule.actual.tool.WorkTimeCalculator.NIGHT_START_MINUTE;
+
+/**
+ * 근무 시간 집계 쿼리 구현.
+ * {@link com.ss6051.backendspring.schedule.actual.tool.WorkTimeCalculator}와 같은 규칙(0분/30분 조정, 22시~06시 야간)을 HQL 식으로 옮겨
+ * 근무 기록 수와 관계없이 한 행만 전송받는다.
+ * 야간 시간은 "epoch부터 t까지 누적된 야간 시간" N(t)의 차이이므로, 기록별 N(종료) - N(시작)의 합을 그대로 SUM 으로 구한다.
+ */
+public class ActualWorkScheduleRepositoryCustomImpl implements ActualWorkScheduleRepositoryCustom {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final String ROUNDED_START = roundToHalfHour(epochMinute("a.startDateTime"));
+    private static final String ROUNDED_END = roundToHalfHour(epochMinute("a.endDateTime"));
+
+    private static final String AGGREGATE_QUERY = "select " +
+            "sum(" + ROUNDED_END + " - " + ROUNDED_START + "), " +
+            "sum(" + nightMinutesUntil(ROUNDED_END) + " - " + nightMinutesUntil(ROUNDED_START) + "), " +
+            "count(a) " +
+            "from ActualWorkSchedule a " +
+            "where a.schedule.id = :storeId and a.account.id = :accountId " +
+            "and a.startDateTime between :startDateTime and :endDateTime " +
+            "and a.endDateTime is not null and a.endDateTime >= a.startDateTime";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public WorkTimeResultDto aggregateWorkTime(long storeId, long accountId,
+                                               LocalDateTime startDateTime, LocalDateTime endDateTime,
+                                               boolean hasMoreThanFiveEmployees) {
+        Object[] row = entityManager.createQuery(AGGREGATE_QUERY, Object[].class)
+                .setParameter("epoch", EPOCH)
+                .setParameter("storeId", storeId)
+                .setParameter("accountId", accountId)
+                .setParameter("startDateTime", startDateTime)
+                .setParameter("endDateTime", endDateTime)
+                .getSingleResult();
+
+        long totalMinute = toLong(row[0]);
+        long nightMinute = hasMoreThanFiveEmployees ? toLong(row[1]) : 0;
+        int workDayCount = (int) toLong(row[2]);
+        return new WorkTimeResultDto(totalMinute - nightMinute, nightMinute, workDayCount);
+    }
+
+    // 근무 기록이 없으면 SUM 결과는 null. DB에 따라 정수/소수 타입으로 반환된다
+    private static long toLong(Object value) {
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+
+    private static String epochMinute(String path) {
+        return "((" + path + " - :epoch) by minute)";
+    }
+
+    private static String roundToHalfHour(String minute) {
+        String minuteOfHour = "mod(" + minute + ", " + MINUTES_PER_HOUR + ")";
+        return "(" + minute + " - " + minuteOfHour + " + case when " + minuteOfHour + " < 15 then 0 " +
+                "when " + minuteOfHour + " < 45 then 30 else " + MINUTES_PER_HOUR + " end)";
+    }
+
+    private static String nightMinutesUntil(String minute) {
+        String minuteOfDay = "mod(" + minute + ", " + MINUTES_PER_DAY + ")";
+        return "((" + minute + " - " + minuteOfDay + ") / " + MINUTES_PER_DAY + " * " + NIGHT_MINUTES_PER_DAY +
+                " + case when " + minuteOfDay + " < " + NIGHT_END_MINUTE + " then " + minuteOfDay + " else " + NIGHT_END_MINUTE + " end" +
+                " + case when " + minuteOfDay + " > " + NIGHT_START_MINUTE + " then " + minuteOfDay + " - " + NIGHT_START_MINUTE + " else 0 end)";
+    }
+}
@@ -1,31 +1,77 @@
 package com.ss6051.backendspring.schedule.actual;
 
+import com.ss6051.backendspring.account.AccountService;
+import com.ss6051.backendspring.global.domain.Account;
 import com.ss6051.backendspring.global.exception.CustomException;
 import com.ss6051.backendspring.global.exception.ErrorCode;
+import com.ss6051.backendspring.salary.PayrollSnapshotService;
+import com.ss6051.backendspring.salary.tool.SalaryCache;
 import com.ss6051.backendspring.schedule.actual.domain.ActualWorkSchedule;
 import com.ss6051.backendspring.schedule.actual.dto.*;
+import com.ss6051.backendspring.schedule.actual.tool.WorkTimeCalculator;
 import com.ss6051.backendspring.schedule.common.ScheduleService;
 import com.ss6051.backendspring.schedule.common.domain.Schedule;
 import com.ss6051.backendspring.schedule.common.domain.ScheduleAccountPair;
-import lombok.RequiredArgsConstructor;
+import com.ss6051.backendspring.store.StoreService;
+import jakarta.persistence.PersistenceException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-
-import static com.ss6051.backendspring.schedule.actual.domain.LaborLawConstant.NIGHT_SHIFT_END_HOUR;
-import static com.ss6051.backendspring.schedule.actual.domain.LaborLawConstant.NIGHT_SHIFT_START_HOUR;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class ActualWorkScheduleService {
 
     private final ActualWorkScheduleRepository actualWorkScheduleRepository;
     private final ScheduleService scheduleService;
+    private final PayrollSnapshotService payrollSnapshotService;
+    private final SalaryCache salaryCache;
+    private final WorkTimeCalculator workTimeCalculator;
+    private final DailyWorkSummaryService dailyWorkSummaryService;
+    private final StoreService storeService;
+    private final AccountService accountService;
+
+    private final int bulkMaxSize; // 일괄 생성 요청 1건당 최대 기록 수
+    private final AtomicBoolean aggregateEnabled; // 근무 시간 조회 시 DB 집계 사용 여부
+    private final boolean aggregateVerify; // DB 집계 결과를 Java 계산 결과와 비교할지 여부
+
+    public ActualWorkScheduleService(ActualWorkScheduleRepository actualWorkScheduleRepository,
+                                     ScheduleService scheduleService,
+                                     PayrollSnapshotService payrollSnapshotService,
+                                     SalaryCache salaryCache,
+                                     WorkTimeCalculator workTimeCalculator,
+                                     DailyWorkSummaryService dailyWorkSummaryService,
+                                     StoreService storeService,
+                                     AccountService accountService,
+                                     @Value("${schedule.actual.bulk.max-size:500}") int bulkMaxSize,
+                                     @Value("${schedule.worktime.aggregate.enabled:true}") boolean aggregateEnabled,
+                                     @Value("${schedule.worktime.aggregate.verify:false}") boolean aggregateVerify) {
+        this.actualWorkScheduleRepository = actualWorkScheduleRepository;
+        this.scheduleService = scheduleService;
+        this.payrollSnapshotService = payrollSnapshotService;
+        this.salaryCache = salaryCache;
+        this.workTimeCalculator = workTimeCalculator;
+        this.dailyWorkSummaryService = dailyWorkSummaryService;
+        this.storeService = storeService;
+        this.accountService = accountService;
+        this.bulkMaxSize = bulkMaxSize;
+        this.aggregateEnabled = new AtomicBoolean(aggregateEnabled);
+        this.aggregateVerify = aggregateVerify;
+    }
 
     @Transactional
     public Long createActualWorkSchedule(ActualWorkCreationDTO dto, long accountId) {
@@ -38,9 +84,114 @@ public class ActualWorkScheduleService {
                 .endDateTime(dto.actualWorkDTO().endDateTime())
                 .build();
         ActualWorkSchedule save = actualWorkScheduleRepository.save(schedule);
+        dailyWorkSummaryService.add(save);
+        invalidatePayrollSnapshot(save, save.getStartDateTime());
         return save.getId();
     }
 
+    /**
+     * 실제 근무 기록을 한 번에 여러 건 생성한다.
+     * 항목을 모두 검증한 뒤 매장 근무 일정과 계정은 각각 한 번의 쿼리로 조회하고, 통과한 항목은 한 번에 저장한다.
+     * 다른 계정의 기록은 해당 매장의 사장 또는 관리자만 생성할 수 있다.
+     * 조회는 예외를 던지지 않는 메서드만 사용한다 - 트랜잭션 프록시를 지나는 예외는 항목 하나의 실패여도 요청 전체를 롤백시키기 때문
+     *
+     * @param dto         생성할 실제 근무 기록 목록
+     * @param requesterId 요청한 계정 ID
+     * @return {@code List<ActualWorkBulkResultDTO>} 요청 순서대로의 항목별 결과
+     */
+    @Transactional
+    public List<ActualWorkBulkResultDTO> createActualWorkSchedules(ActualWorkBulkCreationDTO dto, long requesterId) {
+        List<ActualWorkBulkItemDTO> items = dto.items() == null ? List.of() : dto.items();
+        if (items.size() > bulkMaxSize) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "최대 " + bulkMaxSize + "건까지 요청할 수 있습니다.");
+        }
+
+        ActualWorkBulkResultDTO[] results = new ActualWorkBulkResultDTO[items.size()];
+        long[] accountIds = new long[items.size()];
+        Map<Long, Boolean> permissions = new HashMap<>();
+        Set<Long> storeIdsToLoad = new HashSet<>();
+        Set<Long> accountIdsToLoad = new HashSet<>();
+
+        // 1. 입력값과 권한 검증
+        for (int i = 0; i < items.size(); i++) {
+            ActualWorkBulkItemDTO item = items.get(i);
+            ActualWorkDTO work = item.actualWorkDTO();
+            if (work == null || work.startDateTime() == null
+                    || (work.endDateTime() != null && work.endDateTime().isBefore(work.startDateTime()))) {
+                results[i] = failure(i, ErrorCode.INVALID_INPUT_VALUE, "근무 시작 일시가 없거나 종료 일시가 시작 일시보다 이릅니다.");
+                continue;
+            }
+            long accountId = item.accountId() == null ? requesterId : item.accountId();
+            if (accountId != requesterId
+                    && !permissions.computeIfAbsent(item.storeId(), storeId -> storeService.checkPermission(storeId, requesterId))) {
+                results[i] = failure(i, ErrorCode.ROLE_ACCESS_DENIED, null);
+                continue;
+            }
+            accountIds[i] = accountId;
+            storeIdsToLoad.add(item.storeId());
+            accountIdsToLoad.add(accountId);
+        }
+
+        // 2. 근무 일정과 계정을 각각 한 번에 조회 - 없으면 해당 항목만 실패
+        Map<Long, Schedule> schedulesById = scheduleService.findSchedules(storeIdsToLoad);
+        Map<Long, Account> accountsById = accountService.findAccounts(accountIdsToLoad);
+
+        List<Integer> indexes = new ArrayList<>();
+        List<ActualWorkSchedule> schedules = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            ActualWorkBulkItemDTO item = items.get(i);
+            Schedule schedule = schedulesById.get(item.storeId());
+            if (schedule == null) {
+                results[i] = failure(i, ErrorCode.SCHEDULE_NOT_FOUND, Long.toString(item.storeId()));
+                continue;
+            }
+            Account account = accountsById.get(accountIds[i]);
+            if (account == null) {
+                results[i] = failure(i, ErrorCode.ACCOUNT_NOT_FOUND, Long.toString(accountIds[i]));
+                continue;
+            }
+            schedules.add(ActualWorkSchedule.builder()
+                    .account(account)
+                    .schedule(schedule)
+                    .startDateTime(item.actualWorkDTO().startDateTime())
+                    .endDateTime(item.actualWorkDTO().endDateTime())
+                    .build());
+            indexes.add(i);
+        }
+
+        // 3. 통과한 항목을 한 번에 저장
+        List<ActualWorkSchedule> saved = actualWorkScheduleRepository.saveAll(schedules);
+        actualWorkScheduleRepository.flush();
+        dailyWorkSummaryService.addAll(saved);
+
+        Set<PayrollKey> invalidated = new HashSet<>();
+        for (int i = 0; i < saved.size(); i++) {
+            ActualWorkSchedule schedule = saved.get(i);
+            if (invalidated.add(PayrollKey.of(schedule))) {
+                invalidatePayrollSnapshot(schedule, schedule.getStartDateTime());
+            }
+            results[indexes.get(i)] = new ActualWorkBulkResultDTO(indexes.get(i), schedule.getId(), null, null);
+        }
+        return List.of(results);
+    }
+
+    // CustomException과 같은 형식의 실패 사유
+    private static ActualWorkBulkResultDTO failure(int index, ErrorCode errorCode, String payload) {
+        String message = payload == null ? errorCode.getMessage() : errorCode.getMessage() + " (" + payload + ")";
+        return new ActualWorkBulkResultDTO(index, null, errorCode.getCode(), message);
+    }
+
+    // 급여 스냅샷/캐시 무효화 단위. 같은 날짜의 기록이 여러 건이어도 한 번만 무효화한다
+    private record PayrollKey(long storeId, long accountId, LocalDate workDate) {
+
+        static PayrollKey of(ActualWorkSchedule schedule) {
+            return new PayrollKey(schedule.getSchedule().getId(), schedule.getAccount().getId(), schedule.getStartDateTime().toLocalDate());
+        }
+    }
+
     @Transactional(readOnly = true)
     public List<ActualWorkSchedule> findAllActualWorkScheduleByStoreId(ActualWorkReadStoreAllDTO dto) {
         Schedule schedule = scheduleService.getSchedule(dto.storeId());
@@ -57,18 +208,39 @@ public class ActualWorkScheduleService {
     public ActualWorkSchedule updateActualWorkSchedule(ActualWorkUpdateDTO dto) {
         ActualWorkSchedule schedule = actualWorkScheduleRepository.findById(dto.id())
                 .orElseThrow(() -> new CustomException(ErrorCode.ACTUAL_WORK_SCHEDULE_NOT_FOUND));
+        LocalDateTime previousStartDateTime = schedule.getStartDateTime();
+        dailyWorkSummaryService.subtract(schedule); // 수정 전 근무 시간을 먼저 제외
 
         if (dto.updateDto().startDateTime() == null) {
             schedule.updateEnd(dto.updateDto().endDateTime());
         } else {
             schedule.update(dto.updateDto().startDateTime(), dto.updateDto().endDateTime());
         }
+        // 시작 일시가 다른 달로 옮겨진 경우 양쪽 달 모두 무효화
+        invalidatePayrollSnapshot(schedule, previousStartDateTime);
+        invalidatePayrollSnapshot(schedule, schedule.getStartDateTime());
+        dailyWorkSummaryService.add(schedule);
         return actualWorkScheduleRepository.save(schedule);
     }
 
     @Transactional
     public void deleteActualWorkSchedule(ActualWorkDeleteDTO dto) {
-        actualWorkScheduleRepository.deleteById(dto.id());
+        actualWorkScheduleRepository.findById(dto.id()).ifPresent(schedule -> {
+            invalidatePayrollSnapshot(schedule, schedule.getStartDateTime());
+            dailyWorkSummaryService.subtract(schedule);
+            actualWorkScheduleRepository.delete(schedule);
+        });
+    }
+
+    // 근무 기록이 속한 달의 급여 스냅샷과 해당 날짜를 포함하는 급여 캐시 무효화. 급여 계산은 근무 시작 일시 기준으로 기간을 나눈다.
+    private void invalidatePayrollSnapshot(ActualWorkSchedule schedule, LocalDateTime startDateTime) {
+        if (startDateTime == null) {
+            return;
+        }
+        long storeId = schedule.getSchedule().getId();
+        long accountId = schedule.getAccount().getId();
+        payrollSnapshotService.invalidate(storeId, accountId, startDateTime.toLocalDate());
+        salaryCache.invalidate(storeId, accountId, startDateTime.toLocalDate());
     }
 
     public List<ActualWorkSchedule> getTargetSchedule(ActualWorkTimeRequestDTO dto, long accountId) {
@@ -85,87 +257,51 @@ public class ActualWorkScheduleService {
      * @param accountId
      * @return
      */
-    @Transactional(readOnly = true)
+    // 집계 쿼리가 실패해도 대체 계산이 롤백 전용 트랜잭션에 묶이지 않도록 조회마다 각자의 트랜잭션을 사용한다
     public WorkTimeResultDto getActualWorkTimeInPeriodOfUser(ActualWorkTimeRequestDTO dto, long accountId) {
-        List<ActualWorkSchedule> allByScheduleAndAccount = getTargetSchedule(dto, accountId);
-
-        long dayWorkMinute = 0;
-        long nightWorkMinute = 0;
-        int workDayCount = 0;
-
-        for (ActualWorkSchedule schedule : allByScheduleAndAccount) {
-            workDayCount += 1; // 기간 동안 근무한 날 수
-            LocalDateTime startDateTime = adjustWorkTime(schedule.getStartDateTime());
-            LocalDateTime endDateTime = adjustWorkTime(schedule.getEndDateTime());
-
-            dayWorkMinute += Duration.between(startDateTime, endDateTime).toMinutes();
-
-            // 야간 수당 계산 조건에 해당하는가?
-            if (dto.hasMoreThanFiveEmployees()) {
-                // 야간 근무 시간대; var1-: 시작일 0~6시, var2-: 시작일 22~24시, var3-: 종료일 0~6시, var4-: 종료일 22~24시
-                final LocalDateTime var1s = startDateTime.toLocalDate().atStartOfDay();
-                final LocalDateTime var1e = startDateTime.toLocalDate().atStartOfDay().plusHours(NIGHT_SHIFT_END_HOUR.getValue());
-
-                final LocalDateTime var2s = startDateTime.toLocalDate().atStartOfDay().plusHours(NIGHT_SHIFT_START_HOUR.getValue());
-                final LocalDateTime var2e = startDateTime.toLocalDate().atStartOfDay().plusDays(1);
-
-                // 시작일과 종료일이 같은 날이면 중복 계산 방지
-                if (startDateTime.toLocalDate().atStartOfDay().equals(endDateTime.toLocalDate().atStartOfDay())) {
-                    final LocalDateTime[] starts = {var1s, var2s};
-                    final LocalDateTime[] ends = {var1e, var2e};
-
-                    for (int i = 0; i < 2; i++) {
-                        Duration overlap = calculateOverlap(startDateTime, endDateTime, starts[i], ends[i]);
-                        nightWorkMinute += overlap.toMinutes();
-                    }
-                } else {
-                    final LocalDateTime var3s = endDateTime.toLocalDate().atStartOfDay();
-                    final LocalDateTime var3e = endDateTime.toLocalDate().atStartOfDay().plusHours(NIGHT_SHIFT_END_HOUR.getValue());
-
-                    final LocalDateTime var4s = endDateTime.toLocalDate().atStartOfDay().plusHours(NIGHT_SHIFT_START_HOUR.getValue());
-                    final LocalDateTime var4e = endDateTime.toLocalDate().atStartOfDay().plusDays(1);
-
-                    final LocalDateTime[] starts = {var1s, var2s, var3s, var4s};
-                    final LocalDateTime[] ends = {var1e, var2e, var3e, var4e};
-
-                    for (int i = 0; i < 4; i++) {
-                        Duration overlap = calculateOverlap(startDateTime, endDateTime, starts[i], ends[i]);
-                        nightWorkMinute += overlap.toMinutes();
-                    }
-                }
+        if (aggregateEnabled.get()) {
+            try {
+                return aggregateActualWorkTime(dto, accountId);
+            } catch (InvalidDataAccessResourceUsageException | InvalidDataAccessApiUsageException | IllegalArgumentException e) {
+                // DB가 집계 식(문법, 함수)을 지원하지 않으면 이후로는 Java 계산만 사용
+                log.warn("근무 시간 집계 쿼리를 지원하지 않는 DB, 이후 Java 계산으로 대체: {}", e.getMessage());
+                aggregateEnabled.set(false);
+            } catch (PersistenceException | DataAccessException e) {
+                // 잠금 대기 시간 초과, 연결 끊김 등 일시적인 오류는 이번 조회만 Java 계산으로 대체
+                log.warn("근무 시간 집계 쿼리 실패, 이번 조회만 Java 계산으로 대체: {}", e.getMessage());
             }
-
-            // 야간 근무 시간으로 계산된 부분은 주간 근무 시간에서 제외
-            dayWorkMinute -= nightWorkMinute;
-
         }
-        return new WorkTimeResultDto(dayWorkMinute, nightWorkMinute, workDayCount);
+        List<ActualWorkSchedule> allByScheduleAndAccount = getTargetSchedule(dto, accountId);
+        return calculateWorkTime(allByScheduleAndAccount, dto.hasMoreThanFiveEmployees());
     }
 
-    private LocalDateTime adjustWorkTime(LocalDateTime dateTime) {
-
-        int minute = dateTime.getMinute();
-        if (minute < 15) {
-            dateTime = dateTime.withMinute(0);
-        } else if (minute < 45) {
-            dateTime = dateTime.withMinute(30);
-        } else {
-            dateTime = dateTime.withMinute(0).plusHours(1);
+    // DB 집계로 근무 시간 계산. 검증 모드에서는 Java 계산 결과와 비교해 다르면 Java 결과를 반환한다
+    private WorkTimeResultDto aggregateActualWorkTime(ActualWorkTimeRequestDTO dto, long accountId) {
+        ScheduleAccountPair pair = scheduleService.getScheduleAndAccount(dto.storeId(), accountId);
+        WorkTimeResultDto aggregated = actualWorkScheduleRepository.aggregateWorkTime(pair.schedule().getId(), accountId,
+                dto.startDateTime(), dto.endDateTime(), dto.hasMoreThanFiveEmployees());
+        if (!aggregateVerify) {
+            return aggregated;
         }
 
-        return dateTime;
+        WorkTimeResultDto calculated = calculateWorkTime(getTargetSchedule(dto, accountId), dto.hasMoreThanFiveEmployees());
+        if (!calculated.equals(aggregated)) {
+            log.error("근무 시간 집계 결과 불일치: storeId={}, accountId={}, aggregated={}, calculated={}",
+                    dto.storeId(), accountId, aggregated, calculated);
+            return calculated;
+        }
+        return aggregated;
     }
 
-
-    private Duration calculateOverlap(LocalDateTime startDateTime, LocalDateTime endDateTime,
-                                      LocalDateTime rangeStart, LocalDateTime rangeEnd) {
-        LocalDateTime overlapStart = startDateTime.isAfter(rangeStart) ? startDateTime : rangeStart;
-        LocalDateTime overlapEnd = endDateTime.isBefore(rangeEnd) ? endDateTime : rangeEnd;
-
-        if (overlapStart.isBefore(overlapEnd)) {
-            return Duration.between(overlapStart, overlapEnd);
-        } else {
-            return Duration.ZERO;
-        }
+    /**
+     * 이미 조회된 실제 근무 기록들의 근무 시간 합을 분 단위로 계산한다.
+     * DB 조회 없이 메모리에서만 계산하므로, 매장 단위 급여 계산처럼 기록을 한 번에 불러온 경우에 사용한다.
+     *
+     * @param schedules                계산 대상 실제 근무 기록
+     * @param hasMoreThanFiveEmployees 야간 수당 계산 대상 매장(5인 이상) 여부
+     * @return {@code WorkTimeResultDto} 주간/야간 근무 시간(분)과 근무 일수
+     */
+    public WorkTimeResultDto calculateWorkTime(List<ActualWorkSchedule> schedules, boolean hasMoreThanFiveEmployees) {
+        return workTimeCalculator.calculate(schedules, hasMoreThanFiveEmployees);
     }
 }
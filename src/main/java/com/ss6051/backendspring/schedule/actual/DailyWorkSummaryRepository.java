@@ -0,0 +1,29 @@
+package com.ss6051.backendspring.schedule.actual;
+
+import com.ss6051.backendspring.schedule.actual.domain.DailyWorkSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DailyWorkSummaryRepository extends JpaRepository<DailyWorkSummary, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<DailyWorkSummary> findByStoreIdAndAccountIdAndWorkDate(Long storeId, Long accountId, LocalDate workDate);
+
+    List<DailyWorkSummary> findAllByStoreIdAndAccountIdAndWorkDateBetween(Long storeId, Long accountId, LocalDate startDate, LocalDate endDate);
+
+    List<DailyWorkSummary> findAllByStoreIdAndWorkDateBetween(Long storeId, LocalDate startDate, LocalDate endDate);
+
+    @Modifying
+    @Query("delete from DailyWorkSummary d where d.storeId = :storeId")
+    int deleteAllByStoreId(@Param("storeId") Long storeId);
+}
@@ -0,0 +1,180 @@
+package com.ss6051.backendspring.schedule.actual;
+
+import com.ss6051.backendspring.salary.PayrollSnapshotService;
+import com.ss6051.backendspring.salary.tool.SalaryCache;
+import com.ss6051.backendspring.schedule.actual.domain.ActualWorkSchedule;
+import com.ss6051.backendspring.schedule.actual.domain.DailyWorkSummary;
+import com.ss6051.backendspring.schedule.actual.dto.WorkTimeResultDto;
+import com.ss6051.backendspring.schedule.actual.tool.WorkTimeCalculator;
+import com.ss6051.backendspring.schedule.actual.tool.WorkTimeIndex;
+import com.ss6051.backendspring.schedule.actual.tool.WorkTimePrefixSum;
+import com.ss6051.backendspring.store.StoreService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 날짜별 근무 시간 합계({@link DailyWorkSummary}) 관리.
+ * 실제 근무 기록 변경 시 같은 트랜잭션 안에서 해당 날짜의 합계를 증감한다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class DailyWorkSummaryService {
+
+    private final DailyWorkSummaryRepository dailyWorkSummaryRepository;
+    private final ActualWorkScheduleRepository actualWorkScheduleRepository;
+    private final WorkTimeCalculator workTimeCalculator;
+    private final WorkTimeIndex workTimeIndex;
+    private final StoreService storeService;
+    private final PayrollSnapshotService payrollSnapshotService;
+    private final SalaryCache salaryCache;
+
+    /**
+     * 실제 근무 기록을 날짜별 합계에 더한다.
+     */
+    @Transactional
+    public void add(ActualWorkSchedule schedule) {
+        apply(schedule, 1);
+    }
+
+    /**
+     * 실제 근무 기록을 날짜별 합계에서 뺀다. 수정 전 기록으로 호출해야 한다.
+     */
+    @Transactional
+    public void subtract(ActualWorkSchedule schedule) {
+        apply(schedule, -1);
+    }
+
+    /**
+     * 여러 실제 근무 기록을 날짜별 합계에 더한다. 같은 날짜의 기록은 묶어서 한 번만 반영한다.
+     */
+    @Transactional
+    public void addAll(List<ActualWorkSchedule> schedules) {
+        Map<SummaryKey, WorkTimeResultDto> workTimes = new LinkedHashMap<>();
+        for (ActualWorkSchedule schedule : schedules) {
+            WorkTimeResultDto workTime = workTimeCalculator.calculate(List.of(schedule), true);
+            if (workTime.workDayCount() == 0) {
+                continue;
+            }
+            workTimes.merge(SummaryKey.of(schedule), workTime, (a, b) -> new WorkTimeResultDto(
+                    a.dayShiftMinute() + b.dayShiftMinute(),
+                    a.nightShiftMinute() + b.nightShiftMinute(),
+                    a.workDayCount() + b.workDayCount()));
+        }
+        workTimes.forEach((key, workTime) -> apply(key, workTime, 1));
+    }
+
+    private void apply(ActualWorkSchedule schedule, int sign) {
+        WorkTimeResultDto workTime = workTimeCalculator.calculate(List.of(schedule), true);
+        if (workTime.workDayCount() == 0) {
+            return; // 퇴근 전 기록 등 계산 대상이 아닌 기록
+        }
+        apply(SummaryKey.of(schedule), workTime, sign);
+    }
+
+    private void apply(SummaryKey key, WorkTimeResultDto workTime, int sign) {
+        // 소속 정보 행을 먼저 잠가 같은 계정의 합계 갱신을 순서대로 실행한다.
+        // 아직 없는 날짜의 합계는 조회 잠금으로 막을 수 없어, 동시에 만들면 유니크 제약 위반으로 한쪽 요청이 실패하기 때문
+        storeService.incrementWorkRevision(key.storeId(), key.accountId());
+        DailyWorkSummary summary = dailyWorkSummaryRepository.findByStoreIdAndAccountIdAndWorkDate(key.storeId(), key.accountId(), key.workDate())
+                .orElseGet(() -> DailyWorkSummary.builder()
+                        .storeId(key.storeId())
+                        .accountId(key.accountId())
+                        .workDate(key.workDate())
+                        .build());
+        summary.add(sign * workTime.dayShiftMinute(), sign * workTime.nightShiftMinute(), sign * workTime.workDayCount());
+        workTimeIndex.invalidate(key.storeId(), key.accountId());
+
+        if (!summary.isEmpty()) {
+            dailyWorkSummaryRepository.save(summary);
+        } else if (summary.getId() != null) {
+            dailyWorkSummaryRepository.delete(summary);
+            dailyWorkSummaryRepository.flush(); // 같은 트랜잭션에서 같은 날짜의 합계를 다시 만들 때 유니크 제약 충돌 방지
+        }
+    }
+
+    /**
+     * 계정의 근무 시간 누적 합을 조회한다. 시작일부터 종료일 사이 임의 기간의 근무 시간 합을 DB 조회 없이 구할 수 있다.
+     */
+    public WorkTimePrefixSum getPrefixSum(long storeId, long accountId, LocalDate startDate, LocalDate endDate) {
+        return workTimeIndex.get(storeId, accountId, startDate, endDate);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyWorkSummary> findSummariesOfStore(long storeId, LocalDate startDate, LocalDate endDate) {
+        return dailyWorkSummaryRepository.findAllByStoreIdAndWorkDateBetween(storeId, startDate, endDate);
+    }
+
+    /**
+     * 매장의 날짜별 합계를 실제 근무 기록으로부터 다시 만든다.
+     *
+     * @param storeId 매장 ID
+     * @return 생성된 날짜별 합계 수
+     */
+    @Transactional
+    public int rebuild(long storeId) {
+        dailyWorkSummaryRepository.deleteAllByStoreId(storeId);
+        workTimeIndex.invalidateStore(storeId);
+        // 이전 합계로 계산된 급여 스냅샷과 캐시도 함께 버린다
+        payrollSnapshotService.invalidateStore(storeId);
+        salaryCache.invalidateStore(storeId);
+
+        Map<SummaryKey, DailyWorkSummary> summaries = new HashMap<>();
+        for (ActualWorkSchedule schedule : actualWorkScheduleRepository.findAllWithAccountByStoreId(storeId)) {
+            WorkTimeResultDto workTime = workTimeCalculator.calculate(List.of(schedule), true);
+            if (workTime.workDayCount() == 0) {
+                continue;
+            }
+            summaries.computeIfAbsent(SummaryKey.of(schedule), key -> DailyWorkSummary.builder()
+                            .storeId(key.storeId())
+                            .accountId(key.accountId())
+                            .workDate(key.workDate())
+                            .build())
+                    .add(workTime.dayShiftMinute(), workTime.nightShiftMinute(), workTime.workDayCount());
+        }
+
+        dailyWorkSummaryRepository.saveAll(summaries.values());
+        log.info("날짜별 근무 시간 합계 재생성: storeId={}, count={}", storeId, summaries.size());
+        return summaries.size();
+    }
+
+    /**
+     * 모든 매장의 날짜별 합계를 다시 만든다.
+     *
+     * @return 생성된 날짜별 합계 수
+     */
+    @Transactional
+    public int rebuildAll() {
+        int count = 0;
+        for (Long storeId : actualWorkScheduleRepository.findAllStoreIds()) {
+            count += rebuild(storeId);
+        }
+        return count;
+    }
+
+    // 합계 테이블이 도입되기 전의 근무 기록이 있으면 기동 시 한 번 채운다
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (dailyWorkSummaryRepository.count() == 0 && actualWorkScheduleRepository.count() > 0) {
+            log.info("날짜별 근무 시간 합계가 비어 있어 전체 재생성: count={}", rebuildAll());
+        }
+    }
+
+    private record SummaryKey(long storeId, long accountId, LocalDate workDate) {
+
+        static SummaryKey of(ActualWorkSchedule schedule) {
+            return new SummaryKey(schedule.getSchedule().getId(), schedule.getAccount().getId(), schedule.getStartDateTime().toLocalDate());
+        }
+    }
+}
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public class ActualWorkSchedule {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "actual_work_schedule_seq")
+    @SequenceGenerator(name = "actual_work_schedule_seq", sequenceName = "actual_work_schedule_seq", allocationSize = 50)
     private Long id; // 기본 키
 
     @ManyToOne
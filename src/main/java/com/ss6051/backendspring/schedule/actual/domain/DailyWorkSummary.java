@@ -0,0 +1,49 @@
+package com.ss6051.backendspring.schedule.actual.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 매장/계정/날짜별 실제 근무 시간 합계.
+ * 실제 근무 기록이 생성/수정/삭제될 때마다 증감되며, 근무 시작일 기준으로 집계한다.
+ * 주간 근무 시간은 야간(22시~06시) 시간을 뺀 값이며, 5인 미만 매장은 두 값을 합쳐 주간 근무로 계산한다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"store_id", "account_id", "work_date"}))
+public class DailyWorkSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_work_summary_seq")
+    @SequenceGenerator(name = "daily_work_summary_seq", sequenceName = "daily_work_summary_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId; // 매장 ID
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId; // 계정 ID
+
+    @Column(name = "work_date", nullable = false)
+    private LocalDate workDate; // 근무 시작일
+
+    private long dayMinute; // 주간 근무 시간(분)
+    private long nightMinute; // 야간 근무 시간(분)
+    private int shiftCount; // 근무 기록 수
+
+    public void add(long dayMinute, long nightMinute, int shiftCount) {
+        this.dayMinute += dayMinute;
+        this.nightMinute += nightMinute;
+        this.shiftCount += shiftCount;
+    }
+
+    public boolean isEmpty() {
+        return shiftCount <= 0;
+    }
+}
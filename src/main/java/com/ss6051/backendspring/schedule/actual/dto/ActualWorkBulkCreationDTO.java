@@ -0,0 +1,12 @@
+package com.ss6051.backendspring.schedule.actual.dto;
+
+import java.util.List;
+
+/**
+ * 실제 근무 기록을 한 번에 여러 건 생성하기 위한 DTO
+ *
+ * @param items 생성할 실제 근무 기록 목록. 여러 매장, 여러 계정의 기록을 함께 담을 수 있다
+ */
+public record ActualWorkBulkCreationDTO(
+        List<ActualWorkBulkItemDTO> items) {
+}
@@ -0,0 +1,14 @@
+package com.ss6051.backendspring.schedule.actual.dto;
+
+/**
+ * 실제 근무 기록 일괄 생성 항목
+ *
+ * @param storeId       매장 ID
+ * @param accountId     근무한 계정 ID. 생략하면 요청한 계정
+ * @param actualWorkDTO 실제 근무 시간 DTO
+ */
+public record ActualWorkBulkItemDTO(
+        long storeId,
+        Long accountId,
+        ActualWorkDTO actualWorkDTO) {
+}
@@ -0,0 +1,16 @@
+package com.ss6051.backendspring.schedule.actual.dto;
+
+/**
+ * 실제 근무 기록 일괄 생성 항목별 결과
+ *
+ * @param index     요청 목록에서의 위치
+ * @param id        생성된 실제 근무 기록 ID. 실패 시 null
+ * @param errorCode 실패 시 오류 코드. 성공 시 null
+ * @param message   실패 사유. 성공 시 null
+ */
+public record ActualWorkBulkResultDTO(
+        int index,
+        Long id,
+        String errorCode,
+        String message) {
+}
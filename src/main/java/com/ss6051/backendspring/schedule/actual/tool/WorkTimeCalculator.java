@@ -0,0 +1,95 @@
+package com.ss6051.backendspring.schedule.actual.tool;
+
+import com.ss6051.backendspring.schedule.actual.domain.ActualWorkSchedule;
+import com.ss6051.backendspring.schedule.actual.dto.WorkTimeResultDto;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static com.ss6051.backendspring.schedule.actual.domain.LaborLawConstant.NIGHT_SHIFT_END_HOUR;
+import static com.ss6051.backendspring.schedule.actual.domain.LaborLawConstant.NIGHT_SHIFT_START_HOUR;
+
+/**
+ * 실제 근무 기록의 주간/야간 근무 시간 계산기.
+ * 모든 시각을 epoch 분(1970-01-01T00:00 기준 경과 분) 단위의 long 값으로 다루어 근무 기록마다 객체를 만들지 않는다.
+ * 야간 근무 시간은 "0시부터 t까지 누적된 야간 시간" 함수의 차로 구하므로 여러 날에 걸친 근무도 그대로 계산된다.
+ */
+@Component
+public class WorkTimeCalculator {
+
+    public static final long MINUTES_PER_HOUR = 60;
+    public static final long MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+    public static final long NIGHT_END_MINUTE = NIGHT_SHIFT_END_HOUR.getValue() * MINUTES_PER_HOUR; // 06:00
+    public static final long NIGHT_START_MINUTE = NIGHT_SHIFT_START_HOUR.getValue() * MINUTES_PER_HOUR; // 22:00
+    public static final long NIGHT_MINUTES_PER_DAY = NIGHT_END_MINUTE + (MINUTES_PER_DAY - NIGHT_START_MINUTE);
+
+    /**
+     * 실제 근무 기록들의 근무 시간 합을 분 단위로 계산한다.
+     * 시작/종료 시각은 각각 0분/30분 중 더 가까운 값으로 조정하며, 종료 시각이 없거나(퇴근 전) 시작 시각보다 이른 기록은 제외한다.
+     *
+     * @param schedules                계산 대상 실제 근무 기록
+     * @param hasMoreThanFiveEmployees 야간 수당 계산 대상 매장(5인 이상) 여부. 아니면 모든 시간을 주간 근무로 계산
+     * @return {@code WorkTimeResultDto} 주간/야간 근무 시간(분)과 근무 일수
+     */
+    public WorkTimeResultDto calculate(List<ActualWorkSchedule> schedules, boolean hasMoreThanFiveEmployees) {
+        long dayWorkMinute = 0;
+        long nightWorkMinute = 0;
+        int workDayCount = 0;
+
+        for (int i = 0, size = schedules.size(); i < size; i++) {
+            ActualWorkSchedule schedule = schedules.get(i);
+            if (schedule.getStartDateTime() == null || schedule.getEndDateTime() == null
+                    || schedule.getEndDateTime().isBefore(schedule.getStartDateTime())) {
+                continue;
+            }
+            long start = roundToHalfHour(toEpochMinute(schedule.getStartDateTime()));
+            long end = roundToHalfHour(toEpochMinute(schedule.getEndDateTime()));
+            long total = end - start;
+            long night = hasMoreThanFiveEmployees ? nightMinutesBetween(start, end) : 0;
+
+            workDayCount++;
+            dayWorkMinute += total - night;
+            nightWorkMinute += night;
+        }
+        return new WorkTimeResultDto(dayWorkMinute, nightWorkMinute, workDayCount);
+    }
+
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60); // 초 단위 절사
+    }
+
+    /**
+     * 근무 시각을 0분/30분 중 더 가까운 값으로 조정한다. (0~14분: 정각, 15~44분: 30분, 45~59분: 다음 정각)
+     */
+    public static long roundToHalfHour(long epochMinute) {
+        long minute = Math.floorMod(epochMinute, MINUTES_PER_HOUR);
+        long hourStart = epochMinute - minute;
+        if (minute < 15) {
+            return hourStart;
+        } else if (minute < 45) {
+            return hourStart + 30;
+        }
+        return hourStart + MINUTES_PER_HOUR;
+    }
+
+    /**
+     * [start, end) 구간 중 야간(22시~06시)에 해당하는 시간을 분 단위로 반환한다.
+     */
+    public static long nightMinutesBetween(long start, long end) {
+        if (end <= start) {
+            return 0;
+        }
+        return nightMinutesUntil(end) - nightMinutesUntil(start);
+    }
+
+    // epoch 0분부터 t까지 누적된 야간 시간(분)
+    private static long nightMinutesUntil(long epochMinute) {
+        long days = Math.floorDiv(epochMinute, MINUTES_PER_DAY);
+        long minuteOfDay = Math.floorMod(epochMinute, MINUTES_PER_DAY);
+        return days * NIGHT_MINUTES_PER_DAY
+                + Math.min(minuteOfDay, NIGHT_END_MINUTE)
+                + Math.max(0, minuteOfDay - NIGHT_START_MINUTE);
+    }
+}
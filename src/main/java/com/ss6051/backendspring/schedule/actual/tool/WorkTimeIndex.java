@@ -0,0 +1,150 @@
+package com.ss6051.backendspring.schedule.actual.tool;
+
+import com.ss6051.backendspring.schedule.actual.DailyWorkSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * (매장, 계정)별 근무 시간 누적 합({@link WorkTimePrefixSum}) 캐시.
+ * 조회 기간 앞뒤로 여유 기간을 더한 만큼의 날짜별 합계만 불러와 만들고, 이후 그 안의 기간 조회는 DB 없이 처리한다.
+ * 크기는 항목 수가 아닌 전체 누적 합 배열 길이(일)로 제한하며, 넘으면 가장 오래 사용하지 않은 항목부터 제거한다.
+ * 마지막 사용 후 유휴 시간이 지난 항목은 새 항목을 넣을 때 한꺼번에 제거한다.
+ * 날짜별 합계가 바뀌면 해당 계정의 항목을 무효화한다.
+ */
+@Component
+@Slf4j
+public class WorkTimeIndex {
+
+    private final DailyWorkSummaryRepository dailyWorkSummaryRepository;
+    private final long maxDays;
+    private final int marginDays;
+    private final long idleNanos;
+    // 접근 순서로 정렬 - 앞쪽일수록 오래 사용하지 않은 항목
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalDays; // entries의 누적 합 배열 길이 합. entries와 함께 동기화
+
+    // 무효화가 일어날 때마다 증가. 불러오는 도중 무효화된 누적 합이 캐시에 들어가지 않도록 한다
+    private final AtomicLong version = new AtomicLong();
+
+    public WorkTimeIndex(DailyWorkSummaryRepository dailyWorkSummaryRepository,
+                         @Value("${schedule.worktime.index.max-days:1000000}") long maxDays,
+                         @Value("${schedule.worktime.index.margin-days:62}") int marginDays,
+                         @Value("${schedule.worktime.index.idle-seconds:1800}") long idleSeconds) {
+        this.dailyWorkSummaryRepository = dailyWorkSummaryRepository;
+        this.maxDays = maxDays;
+        this.marginDays = marginDays;
+        this.idleNanos = idleSeconds * 1_000_000_000L;
+    }
+
+    /**
+     * 시작일부터 종료일까지의 합을 구할 수 있는 계정의 근무 시간 누적 합을 조회한다. 없으면 DB에서 불러온다.
+     */
+    public WorkTimePrefixSum get(long storeId, long accountId, LocalDate startDate, LocalDate endDate) {
+        Key key = new Key(storeId, accountId);
+        long now = System.nanoTime();
+        long versionAtStart;
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && now - entry.lastAccessedAt() <= idleNanos && entry.prefixSum().covers(startDate, endDate)) {
+                entries.put(key, new Entry(entry.prefixSum(), now));
+                return entry.prefixSum();
+            }
+            versionAtStart = version.get();
+        }
+
+        LocalDate loadStart = startDate.minusDays(marginDays);
+        LocalDate loadEnd = endDate.plusDays(marginDays);
+        WorkTimePrefixSum prefixSum = WorkTimePrefixSum.of(
+                dailyWorkSummaryRepository.findAllByStoreIdAndAccountIdAndWorkDateBetween(storeId, accountId, loadStart, loadEnd),
+                loadStart, loadEnd);
+        synchronized (entries) {
+            if (version.get() == versionAtStart) {
+                remove(key);
+                entries.put(key, new Entry(prefixSum, now));
+                totalDays += prefixSum.days();
+                evict(now);
+            }
+        }
+        return prefixSum;
+    }
+
+    /**
+     * 계정의 누적 합을 무효화한다. 날짜별 합계 변경 시 사용한다.
+     */
+    public void invalidate(long storeId, long accountId) {
+        invalidateIf(key -> key.storeId() == storeId && key.accountId() == accountId);
+    }
+
+    /**
+     * 매장의 모든 누적 합을 무효화한다. 날짜별 합계 재생성 시 사용한다.
+     */
+    public void invalidateStore(long storeId) {
+        invalidateIf(key -> key.storeId() == storeId);
+    }
+
+    // 유휴 시간이 지난 항목과, 전체 길이 제한을 넘는 만큼 오래 사용하지 않은 항목을 앞에서부터 제거
+    private void evict(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (totalDays <= maxDays && now - entry.lastAccessedAt() <= idleNanos) {
+                break;
+            }
+            if (!iterator.hasNext()) {
+                break; // 방금 넣은 항목은 남긴다
+            }
+            iterator.remove();
+            totalDays -= entry.prefixSum().days();
+        }
+    }
+
+    private void remove(Key key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            totalDays -= removed.prefixSum().days();
+        }
+    }
+
+    // 변경 중인 트랜잭션이 있으면 커밋 이후에도 한 번 더 무효화 - 커밋 전 데이터로 만든 누적 합이 남지 않도록 한다
+    private void invalidateIf(Predicate<Key> predicate) {
+        removeIf(predicate);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeIf(predicate);
+                }
+            });
+        }
+    }
+
+    private void removeIf(Predicate<Key> predicate) {
+        synchronized (entries) {
+            version.incrementAndGet();
+            Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Key, Entry> entry = iterator.next();
+                if (predicate.test(entry.getKey())) {
+                    iterator.remove();
+                    totalDays -= entry.getValue().prefixSum().days();
+                }
+            }
+        }
+    }
+
+    private record Key(long storeId, long accountId) {
+    }
+
+    private record Entry(WorkTimePrefixSum prefixSum, long lastAccessedAt) {
+    }
+}
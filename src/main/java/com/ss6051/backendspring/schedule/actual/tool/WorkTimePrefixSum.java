@@ -0,0 +1,135 @@
+package com.ss6051.backendspring.schedule.actual.tool;
+
+import com.ss6051.backendspring.schedule.actual.domain.DailyWorkSummary;
+import com.ss6051.backendspring.schedule.actual.dto.WorkTimeResultDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 한 계정의 날짜별 근무 시간 누적 합.
+ * i번째 값은 첫 근무일부터 (첫 근무일 + i)일 전날까지의 합이므로, 임의 기간의 합을 두 번의 조회와 한 번의 뺄셈으로 구한다.
+ * 생성 후 변경되지 않으므로 여러 스레드에서 동시에 읽어도 안전하다.
+ * 일부 기간의 합계로 만든 경우 그 기간({@link #covers}) 안의 합만 정확하다.
+ */
+public final class WorkTimePrefixSum {
+
+    private static final WorkTimePrefixSum EMPTY = new WorkTimePrefixSum(0, new long[1], new long[1], new int[1], Long.MIN_VALUE, Long.MAX_VALUE);
+
+    private final long firstEpochDay; // 첫 근무일의 epoch 일
+    private final long[] dayMinutes; // 누적 주간 근무 시간(분)
+    private final long[] nightMinutes; // 누적 야간 근무 시간(분)
+    private final int[] shiftCounts; // 누적 근무 기록 수
+    private final long coveredFrom; // 합계를 불러온 기간의 시작 epoch 일
+    private final long coveredTo; // 합계를 불러온 기간의 종료 epoch 일(포함)
+
+    private WorkTimePrefixSum(long firstEpochDay, long[] dayMinutes, long[] nightMinutes, int[] shiftCounts,
+                              long coveredFrom, long coveredTo) {
+        this.firstEpochDay = firstEpochDay;
+        this.dayMinutes = dayMinutes;
+        this.nightMinutes = nightMinutes;
+        this.shiftCounts = shiftCounts;
+        this.coveredFrom = coveredFrom;
+        this.coveredTo = coveredTo;
+    }
+
+    /**
+     * 날짜별 근무 시간 합계로 누적 합을 만든다. 합계는 모두 같은 계정의 것이어야 한다.
+     * 합계가 있는 기간 밖은 근무가 없는 것으로 본다.
+     */
+    public static WorkTimePrefixSum of(List<DailyWorkSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return EMPTY;
+        }
+
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        for (DailyWorkSummary summary : summaries) {
+            long epochDay = summary.getWorkDate().toEpochDay();
+            first = Math.min(first, epochDay);
+            last = Math.max(last, epochDay);
+        }
+        return of(summaries, first, last, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * 시작일부터 종료일까지(종료일 포함)의 날짜별 근무 시간 합계로 누적 합을 만든다. 그 기간 안의 합만 구할 수 있다.
+     *
+     * @param summaries 해당 기간의 같은 계정 날짜별 합계
+     */
+    public static WorkTimePrefixSum of(List<DailyWorkSummary> summaries, LocalDate startDate, LocalDate endDate) {
+        long from = startDate.toEpochDay();
+        long to = endDate.toEpochDay();
+        if (summaries.isEmpty()) {
+            return new WorkTimePrefixSum(0, new long[1], new long[1], new int[1], from, to); // 배열 없이 기간만 기억
+        }
+        return of(summaries, from, to, from, to);
+    }
+
+    private static WorkTimePrefixSum of(List<DailyWorkSummary> summaries, long first, long last, long coveredFrom, long coveredTo) {
+        int length = Math.toIntExact(last - first + 2);
+        long[] dayMinutes = new long[length];
+        long[] nightMinutes = new long[length];
+        int[] shiftCounts = new int[length];
+        for (DailyWorkSummary summary : summaries) {
+            long epochDay = summary.getWorkDate().toEpochDay();
+            if (epochDay < first || epochDay > last) {
+                continue;
+            }
+            int index = (int) (epochDay - first) + 1;
+            dayMinutes[index] += summary.getDayMinute();
+            nightMinutes[index] += summary.getNightMinute();
+            shiftCounts[index] += summary.getShiftCount();
+        }
+        for (int i = 1; i < length; i++) {
+            dayMinutes[i] += dayMinutes[i - 1];
+            nightMinutes[i] += nightMinutes[i - 1];
+            shiftCounts[i] += shiftCounts[i - 1];
+        }
+        return new WorkTimePrefixSum(first, dayMinutes, nightMinutes, shiftCounts, coveredFrom, coveredTo);
+    }
+
+    /**
+     * 시작일부터 종료일까지의 합을 이 누적 합으로 구할 수 있는지 확인한다.
+     */
+    public boolean covers(LocalDate startDate, LocalDate endDate) {
+        return startDate.toEpochDay() >= coveredFrom && endDate.toEpochDay() <= coveredTo;
+    }
+
+    /**
+     * 누적 합 배열의 길이(일). 캐시 크기 계산에 사용한다.
+     */
+    public int days() {
+        return dayMinutes.length;
+    }
+
+    /**
+     * 시작일부터 종료일까지(종료일 포함) 시작한 근무의 시간 합을 구한다.
+     *
+     * @param hasMoreThanFiveEmployees 야간 수당 계산 대상 매장(5인 이상) 여부. 아니면 야간 근무 시간도 주간 근무로 계산
+     * @return {@code WorkTimeResultDto} 주간/야간 근무 시간(분)과 근무 기록 수
+     */
+    public WorkTimeResultDto sum(LocalDate startDate, LocalDate endDate, boolean hasMoreThanFiveEmployees) {
+        int from = indexOf(startDate.toEpochDay());
+        int to = indexOf(endDate.toEpochDay() + 1);
+        if (to <= from) {
+            return new WorkTimeResultDto(0, 0, 0);
+        }
+
+        long day = dayMinutes[to] - dayMinutes[from];
+        long night = nightMinutes[to] - nightMinutes[from];
+        int count = shiftCounts[to] - shiftCounts[from];
+        return hasMoreThanFiveEmployees
+                ? new WorkTimeResultDto(day, night, count)
+                : new WorkTimeResultDto(day + night, 0, count);
+    }
+
+    // epoch 일을 누적 합 배열의 위치로 변환. 범위를 벗어나면 양 끝으로 맞춘다
+    private int indexOf(long epochDay) {
+        long index = epochDay - firstEpochDay;
+        if (index <= 0) {
+            return 0;
+        }
+        return (int) Math.min(index, dayMinutes.length - 1);
+    }
+}
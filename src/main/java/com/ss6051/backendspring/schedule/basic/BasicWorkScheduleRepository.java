@@ -4,6 +4,8 @@ import com.ss6051.backendspring.global.domain.Account;
 import com.ss6051.backendspring.schedule.basic.domain.BasicWorkSchedule;
 import com.ss6051.backendspring.schedule.common.domain.Schedule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.DayOfWeek;
@@ -14,4 +16,8 @@ import java.util.Optional;
 public interface BasicWorkScheduleRepository extends JpaRepository<BasicWorkSchedule, Long> {
     List<BasicWorkSchedule> findAllByScheduleAndAccount(Schedule schedule, Account account);
     Optional<BasicWorkSchedule> findByScheduleAndAccountAndDayOfWeek(Schedule schedule, Account account, DayOfWeek dayOfWeek);
+
+    // 매장의 모든 직원의 기본 근무 일정을 한 번에 조회
+    @Query("select b from BasicWorkSchedule b join fetch b.account where b.schedule.id = :storeId")
+    List<BasicWorkSchedule> findAllByStoreId(@Param("storeId") Long storeId);
 }
@@ -2,6 +2,7 @@ package com.ss6051.backendspring.schedule.basic;
 
 import com.ss6051.backendspring.global.exception.CustomException;
 import com.ss6051.backendspring.global.exception.ErrorCode;
+import com.ss6051.backendspring.salary.tool.SalaryCache;
 import com.ss6051.backendspring.schedule.basic.domain.BasicWorkSchedule;
 import com.ss6051.backendspring.schedule.common.domain.ScheduleAccountPair;
 import com.ss6051.backendspring.schedule.basic.dto.BasicWorkCreationDTO;
@@ -26,6 +27,7 @@ public class BasicWorkScheduleService {
 
     private final BasicWorkScheduleRepository basicWorkScheduleRepository;
     private final ScheduleService scheduleService;
+    private final SalaryCache salaryCache;
 
     @Transactional
     public List<BasicWorkSchedule> createBasicWorkSchedule(BasicWorkCreationDTO dto) {
@@ -45,6 +47,7 @@ public class BasicWorkScheduleService {
             schedules.add(schedule);
         }
 
+        salaryCache.invalidate(dto.storeId(), dto.accountId());
         return basicWorkScheduleRepository.saveAll(schedules);
     }
 
@@ -55,6 +58,12 @@ public class BasicWorkScheduleService {
         return basicWorkScheduleRepository.findAllByScheduleAndAccount(pair.schedule(), pair.account());
     }
 
+    // 매장 내 모든 회원의 기본 근무 일정 조회
+    @Transactional(readOnly = true)
+    public List<BasicWorkSchedule> findAllBasicWorkScheduleOfStore(long storeId) {
+        return basicWorkScheduleRepository.findAllByStoreId(storeId);
+    }
+
     @Transactional
     public BasicWorkSchedule updateBasicWorkSchedule(BasicWorkUpdateDTO dto) {
 
@@ -69,6 +78,7 @@ public class BasicWorkScheduleService {
         }
         assert basicWorkSchedule != null;
         basicWorkSchedule.update(dto.basicWorkDTO().startTime(), dto.basicWorkDTO().endTime());
+        salaryCache.invalidate(dto.storeId(), dto.accountId());
 
         return basicWorkScheduleRepository.save(basicWorkSchedule);
     }
@@ -80,5 +90,6 @@ public class BasicWorkScheduleService {
             Optional<BasicWorkSchedule> scheduleOpt = basicWorkScheduleRepository.findByScheduleAndAccountAndDayOfWeek(pair.schedule(), pair.account(), dayOfWeek);
             scheduleOpt.ifPresent(basicWorkSchedule -> basicWorkScheduleRepository.deleteById(basicWorkSchedule.getId()));
         }
+        salaryCache.invalidate(dto.storeId(), dto.accountId());
     }
 }
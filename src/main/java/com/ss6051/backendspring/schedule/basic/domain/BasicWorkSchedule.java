@@ -17,7 +17,8 @@ import java.time.LocalTime;
 public class BasicWorkSchedule {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "basic_work_schedule_seq")
+    @SequenceGenerator(name = "basic_work_schedule_seq", sequenceName = "basic_work_schedule_seq", allocationSize = 50)
     private Long id; // 복합 키
 
     @ManyToOne
@@ -14,7 +14,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -47,6 +51,18 @@ public class ScheduleService {
         return new ScheduleAccountPair(getSchedule(storeId), accountService.findAccount(accountId));
     }
 
+    /**
+     * 여러 매장의 근무 일정을 한 번에 조회한다. 없는 매장은 결과에서 빠지며 예외를 던지지 않는다.
+     *
+     * @param storeIds 매장 ID 목록
+     * @return {@code Map<Long, Schedule>} 매장 ID별 근무 일정
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Schedule> findSchedules(Collection<Long> storeIds) {
+        return scheduleRepository.findAllById(storeIds).stream()
+                .collect(Collectors.toMap(Schedule::getId, Function.identity()));
+    }
+
     public Schedule getSchedule(@ExistsInDatabase(type = Store.class) long storeId) {
         Optional<Schedule> schedule = scheduleRepository.findById(storeId);
         if (schedule.isEmpty()) {
@@ -15,9 +15,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -148,6 +148,7 @@ public class StoreController {
                                     }))
             })
     @PostMapping("/generateCode")
+    @PreAuthorize("hasPermission(#storeId, 'Store', 'MANAGE')")
     public ResponseEntity<String> generateCode(@RequestParam("storeId") long storeId) {
         log.info("generateCode() start");
 
@@ -283,20 +284,12 @@ public class StoreController {
     }
 
     @Operation(summary = "매장 조회",
-            description = "사용자가 등록된 모든 매장을 조회합니다. (jwt 토큰 값에서 사용자 id를 파싱해서 조회)",
+            description = "사용자가 등록된 모든 매장의 이름, 주소와 사용자의 역할을 조회합니다. (jwt 토큰 값에서 사용자 id를 파싱해서 조회)",
             tags = {"store"})
     @GetMapping("/user")
     public ResponseEntity<List<StoreNameAddrDTO>> getAllAssignedStores() {
         long accountId = JwtTokenProvider.getAccountIdFromSecurity();
-        List<Long> allByAccountId = storeService.findAllByAccountId(accountId);
-        List<StoreNameAddrDTO> result = new ArrayList<>();
-        allByAccountId.forEach(id -> {
-            Store store = storeService.findStore(id);
-            result.add(
-                    new StoreNameAddrDTO(store.getId(), store.getName(), store.getAddress().getStreetAddress(), store.getAddress().getLotNumberAddress())
-            );
-        });
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok(storeService.findAllStoreNameAddrByAccountId(accountId));
     }
 
     @Operation(summary = "권한 확인",
@@ -4,27 +4,32 @@ package com.ss6051.backendspring.store;
 import com.ss6051.backendspring.account.AccountService;
 import com.ss6051.backendspring.global.domain.Account;
 import com.ss6051.backendspring.global.domain.Role;
+import com.ss6051.backendspring.global.domain.StorePermission;
 import com.ss6051.backendspring.global.exception.CustomException;
 import com.ss6051.backendspring.global.exception.ErrorCode;
-import com.ss6051.backendspring.salary.dto.SalaryCalculateDTO;
+import com.ss6051.backendspring.salary.tool.SalaryCache;
 import com.ss6051.backendspring.schedule.common.domain.Schedule;
 import com.ss6051.backendspring.store.domain.Address;
 import com.ss6051.backendspring.store.domain.Store;
 import com.ss6051.backendspring.store.domain.StoreAccount;
 import com.ss6051.backendspring.store.dto.AllAccountsRequestDTO;
 import com.ss6051.backendspring.store.dto.RegisterStoreDto;
+import com.ss6051.backendspring.store.dto.StoreNameAddrDTO;
+import com.ss6051.backendspring.store.dto.WorkRevisionDTO;
 import com.ss6051.backendspring.store.repository.AddressRepository;
 import com.ss6051.backendspring.store.repository.StoreAccountRepository;
 import com.ss6051.backendspring.store.repository.StoreRepository;
 import com.ss6051.backendspring.store.tool.OneTimeCodeGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -38,27 +43,22 @@ public class StoreService {
     private final AccountService accountService;
 
     private final OneTimeCodeGenerator oneTimeCodeGenerator;
+    private final SalaryCache salaryCache;
 
     /**
      * 해당 매장에 대한 관리자 권한도 없고 사장도 아닌가?
      *
-     * @param storeId 매장 ID
-     * @param account 계정 정보
+     * @param storeId   매장 ID
+     * @param accountId 계정 ID
      */
-    private void checkPermission(long storeId, Account account) {
-        List<String> authoritiesToString = account.getAuthoritiesToString();
-        if (!(authoritiesToString.contains("STORE_" + storeId + "_ROLE_OWNER") ||
-                authoritiesToString.contains("STORE_" + storeId + "_ROLE_MANAGER")))
+    private void requirePermission(long storeId, long accountId) {
+        if (!checkPermission(storeId, accountId))
             throw new CustomException(ErrorCode.ROLE_ACCESS_DENIED);
     }
 
+    // 캐시된 계정 요약 정보의 매장별 역할을 한 번 조회해 판단. 계정이 없으면 ACCOUNT_NOT_FOUND
     public boolean checkPermission(long storeId, long accountId) {
-        try {
-            checkPermission(storeId, accountService.findAccount(accountId));
-            return true;
-        } catch (CustomException e) {
-            return false;
-        }
+        return accountService.findPrincipal(accountId).hasPermission(storeId, StorePermission.MANAGE);
     }
 
     /**
@@ -92,6 +92,7 @@ public class StoreService {
                 .owner(account)
                 .name(registerStoreDto.getStoreName())
                 .address(address)
+                .ownerCount(1) // 아래에서 함께 저장하는 사장 소속 정보
 //                .schedule(null)
                 .build();
 
@@ -101,6 +102,7 @@ public class StoreService {
                 .account(account)
                 .role(Role.OWNER)
                 .build());
+        accountService.onMembershipChanged(accountId); // 새 매장의 사장 역할 반영
 
         return newStore;
     }
@@ -134,14 +136,13 @@ public class StoreService {
      * @param storeId   일회성 코드를 생성할 매장 ID
      * @return {@code code} 일회성 코드 생성 결과
      */
-    @Transactional(readOnly = true)
+    @Transactional // DB 일회성 코드 저장소는 같은 트랜잭션에서 코드를 기록한다
     public String generateCode(long accountId, long storeId) {
         log.info("일회성 코드 생성 시작: accountId={}, storeId={}", accountId, storeId);
 
         // 각종 예외 처리
-        Account account = accountService.findAccount(accountId);
         findStore(storeId);
-        checkPermission(storeId, account);
+        requirePermission(storeId, accountId);
 
         // 일회성 코드 생성
         String code = oneTimeCodeGenerator.generateUniqueCode(storeId);
@@ -158,27 +159,39 @@ public class StoreService {
     @Transactional
     public Long registerEmployee(long accountId, String code) {
         log.info("직원 등록 시작: accountId={}, code={}", accountId, code);
-        Account account = accountService.findAccount(accountId);
 
         // 일회성 코드에 해당하는 매장 ID 조회 - 맞는 코드가 없으면 bad request
         Long storeId = oneTimeCodeGenerator.getStoreIdWithCode(code);
+        if (storeId == null) {
+            throw new CustomException(ErrorCode.CODE_NO_STORE_MATCHES, code);
+        }
 
         // 매장 정보가 없으면 bad request
-        Store store = findStore(storeId);
+        if (!storeRepository.existsById(storeId)) {
+            throw new CustomException(ErrorCode.STORE_NOT_FOUND, storeId.toString());
+        }
 
-        // 이미 매장에 소속된 직원이면 bad request
-        if (store.getAllAccounts().contains(account)) {
+        // 이미 매장에 소속된 직원이면 bad request - (store_id, account_id) 유니크 인덱스로 조회
+        if (storeAccountRepository.existsByStoreIdAndAccountId(storeId, accountId)) {
             log.info("직원 등록 중지됨 - 이미 매장에 소속된 직원: accountId={}, storeId={}", accountId, storeId);
             throw new CustomException(ErrorCode.STORE_ALREADY_REGISTERED_MEMBER);
         }
 
-        store.addEmployee(account);
-        storeRepository.save(store);
-        storeAccountRepository.save(StoreAccount.builder()
-                .store(store)
-                .account(account)
-                .role(Role.EMPLOYEE)
-                .build());
+        // 매장과 계정은 참조만 사용 - 소속 목록을 불러오지 않는다
+        // 동시에 같은 코드로 등록하면 유니크 제약이 하나만 남긴다
+        try {
+            storeAccountRepository.saveAndFlush(StoreAccount.builder()
+                    .store(storeRepository.getReferenceById(storeId))
+                    .account(accountService.getAccountReference(accountId))
+                    .role(Role.EMPLOYEE)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            log.info("직원 등록 중지됨 - 동시에 등록된 직원: accountId={}, storeId={}", accountId, storeId);
+            throw new CustomException(ErrorCode.STORE_ALREADY_REGISTERED_MEMBER);
+        }
+        addHeadcount(storeId, Role.EMPLOYEE, 1);
+        salaryCache.invalidateStore(storeId); // 매장 인원 변경 - 야간 수당 적용 여부가 바뀔 수 있음
+        accountService.onMembershipChanged(accountId);
         log.info("직원 등록: accountId={}, storeId={}", accountId, storeId);
         return storeId;
     }
@@ -186,23 +199,22 @@ public class StoreService {
     @Transactional
     public void deleteEmployee(long accountId, long storeId) {
         log.info("직원 삭제 시작: accountId={}, storeId={}", accountId, storeId);
-        Account account = accountService.findAccount(accountId);
-        Store store = findStore(storeId);
 
-        if (store.getOwner().equals(account)) {
+        // 매장에 소속된 직원이 아니면 bad request - (store_id, account_id) 유니크 인덱스로 조회
+        StoreAccount storeAccount = storeAccountRepository.findByStoreIdAndAccountId(storeId, accountId).orElseThrow(() -> {
+            log.info("직원 삭제 중지됨 - 매장에 소속되지 않은 직원: accountId={}, storeId={}", accountId, storeId);
+            return new CustomException(ErrorCode.ACCOUNT_NOT_FOUND);
+        });
+
+        if (storeAccount.getRole() == Role.OWNER) {
             log.info("직원 삭제 중지됨 - 사장은 삭제할 수 없음: accountId={}, storeId={}", accountId, storeId);
             throw new CustomException(ErrorCode.ROLE_ACCESS_DENIED);
         }
 
-        // 매장에 소속된 직원이 아니면 bad request
-        if (!store.getAllAccounts().contains(account)) {
-            log.info("직원 삭제 중지됨 - 매장에 소속되지 않은 직원: accountId={}, storeId={}", accountId, storeId);
-            throw new CustomException(ErrorCode.ACCOUNT_NOT_FOUND);
-        }
-
-        store.removeAccount(account);
-        storeRepository.save(store);
-        storeAccountRepository.findByStoreIdAndAccountId(storeId, accountId).ifPresent(storeAccountRepository::delete);
+        storeAccountRepository.delete(storeAccount);
+        addHeadcount(storeId, storeAccount.getRole(), -1);
+        salaryCache.invalidateStore(storeId); // 매장 인원 변경 - 야간 수당 적용 여부가 바뀔 수 있음
+        accountService.onMembershipChanged(accountId);
         log.info("직원 삭제: accountId={}, storeId={}", accountId, storeId);
     }
 
@@ -224,9 +236,17 @@ public class StoreService {
                 throw new CustomException(ErrorCode.ROLE_ACCESS_DENIED, "사장 권한은 변경할 수 없습니다");
             }
             */
-            storeAccount.setRole(Role.valueOf(role));
+            Role previousRole = storeAccount.getRole();
+            Role newRole = Role.valueOf(role);
+            storeAccount.setRole(newRole);
 
             storeAccountRepository.save(storeAccount);
+            if (previousRole != newRole) {
+                addHeadcount(storeId, previousRole, -1);
+                addHeadcount(storeId, newRole, 1);
+            }
+            salaryCache.invalidate(storeId, accountId);
+            accountService.onMembershipChanged(accountId);
             log.info("권한 변경: accountId={}, storeId={}, role={}", accountId, storeId, role);
 
         } catch (IllegalArgumentException e) {
@@ -235,14 +255,58 @@ public class StoreService {
 
     }
 
+    // 매장의 역할별 인원 수 증감. 소속 정보 변경과 같은 트랜잭션에서 호출한다
+    private void addHeadcount(long storeId, Role role, long delta) {
+        storeRepository.addHeadcount(storeId,
+                role == Role.OWNER ? delta : 0,
+                role == Role.MANAGER ? delta : 0,
+                role == Role.EMPLOYEE ? delta : 0);
+    }
+
+    /**
+     * 매장에 속한 모든 계정(사장, 관리자, 직원) 수를 조회한다. 매장과 소속 목록을 불러오지 않는다.
+     *
+     * @param storeId 매장 ID
+     * @return 매장 전체 인원 수
+     */
     @Transactional(readOnly = true)
-    public List<AllAccountsRequestDTO> getAllAccounts(Long storeId) {
-        Store store = findStore(storeId);
-        Stream<Account> allAccounts = store.getEmployeeList().stream().map(StoreAccount::getAccount);
+    public long getHeadcount(Long storeId) {
+        return storeRepository.findHeadcount(storeId)
+                .orElseThrow(() -> new CustomException(ErrorCode.STORE_NOT_FOUND, storeId.toString()));
+    }
 
-        return allAccounts
-                .map(account -> new AllAccountsRequestDTO(account.getId(), account.getNickname()))
-                .toList();
+    /**
+     * 역할별 인원 수가 실제 소속 계정 수와 다른 매장을 찾아 다시 계산한다.
+     * 인원 수는 소속 정보 변경 시 증감하므로, 직접 수정한 데이터나 도입 전 데이터로 생긴 차이만 고친다.
+     *
+     * @return 인원 수를 고친 매장 수
+     */
+    @Transactional
+    public int reconcileHeadcounts() {
+        List<Long> driftedIds = storeRepository.findHeadcountDriftedIds(Role.OWNER, Role.MANAGER, Role.EMPLOYEE);
+        if (driftedIds.isEmpty()) {
+            return 0;
+        }
+        storeRepository.recountHeadcount(driftedIds, Role.OWNER, Role.MANAGER, Role.EMPLOYEE);
+        driftedIds.forEach(salaryCache::invalidateStore); // 야간 수당 적용 여부가 바뀌었을 수 있음
+        log.warn("매장 인원 수 재계산: storeIds={}", driftedIds);
+        return driftedIds.size();
+    }
+
+    /**
+     * 매장에 소속된 모든 계정(사장, 관리자, 직원)의 ID와 닉네임을 조회한다. 매장과 소속 목록을 불러오지 않는다.
+     *
+     * @param storeId 매장 ID
+     * @return {@code List<AllAccountsRequestDTO>} 계정 ID 순 계정 목록
+     */
+    @Transactional(readOnly = true)
+    public List<AllAccountsRequestDTO> getAllAccounts(Long storeId) {
+        List<AllAccountsRequestDTO> accounts = storeAccountRepository.findAccountSummariesByStoreId(storeId);
+        if (accounts.isEmpty()) {
+            // 사장 계정은 항상 등록되어 있으므로, 비어 있으면 매장이 없는 것
+            throw new CustomException(ErrorCode.STORE_NOT_FOUND, storeId.toString());
+        }
+        return accounts;
     }
 
     /**
@@ -261,6 +325,7 @@ public class StoreService {
 
         storeAccount.setBaseSalary(baseSalary);
         storeAccountRepository.save(storeAccount);
+        salaryCache.invalidate(storeId, accountId);
         log.info("기본 급여 변경: accountId={}, storeId={}, baseSalary={}", accountId, storeId, baseSalary);
     }
 
@@ -272,9 +337,8 @@ public class StoreService {
 
     @Transactional(readOnly = true)
     public StoreAccount getAccount(Long accountId, long storeId) {
-        Account account = accountService.findAccount(accountId);
         findStore(storeId);
-        checkPermission(storeId, account);
+        requirePermission(storeId, accountId);
 
         Optional<StoreAccount> byStoreIdAndAccountId = storeAccountRepository.findByStoreIdAndAccountId(storeId, accountId);
         if (byStoreIdAndAccountId.isEmpty()) {
@@ -284,20 +348,75 @@ public class StoreService {
         return byStoreIdAndAccountId.get();
     }
 
+    /**
+     * 매장에 소속된 모든 계정(사장, 관리자, 직원)의 매장별 정보를 조회한다.
+     * 급여 계산처럼 매장 전체를 한 번에 다루는 경우에 사용하며, 권한 검사는 하지 않는다.
+     *
+     * @param storeId 매장 ID
+     * @return {@code List<StoreAccount>} 매장 소속 계정 목록
+     */
+    @Transactional(readOnly = true)
+    public List<StoreAccount> findAllStoreAccounts(Long storeId) {
+        List<StoreAccount> storeAccounts = storeAccountRepository.findAllByStoreId(storeId);
+        if (storeAccounts.isEmpty()) {
+            // 사장 계정은 항상 등록되어 있으므로, 비어 있으면 매장이 없는 것
+            throw new CustomException(ErrorCode.STORE_NOT_FOUND, storeId.toString());
+        }
+        return storeAccounts;
+    }
+
+    /**
+     * 계정의 실제 근무 기록 변경 순번을 올린다. 근무 기록을 바꾸는 트랜잭션 안에서 호출하며,
+     * 커밋될 때까지 해당 소속 정보 행을 잠가 같은 계정의 급여 마감({@link #lockWorkRevisions})과 순서대로 실행되게 한다.
+     */
+    @Transactional
+    public void incrementWorkRevision(long storeId, long accountId) {
+        storeAccountRepository.incrementWorkRevision(storeId, accountId);
+    }
+
+    /**
+     * 매장 소속 모든 계정의 실제 근무 기록 변경 순번을 올린다. 매장 전체 근무 기록을 다시 계산할 때 사용한다.
+     */
+    @Transactional
+    public void incrementWorkRevisionOfStore(long storeId) {
+        storeAccountRepository.incrementWorkRevisionOfStore(storeId);
+    }
+
+    /**
+     * 매장 소속 계정의 실제 근무 기록 변경 순번을 잠그고 조회한다. 진행 중인 근무 기록 변경이 있으면 커밋될 때까지 기다린다.
+     *
+     * @param storeId 매장 ID
+     * @return {@code Map<Long, Long>} 계정 ID별 변경 순번
+     */
+    @Transactional
+    public Map<Long, Long> lockWorkRevisions(long storeId) {
+        return storeAccountRepository.findWorkRevisionsForUpdate(storeId).stream()
+                .collect(Collectors.toMap(WorkRevisionDTO::accountId, WorkRevisionDTO::workRevision));
+    }
+
     @Transactional(readOnly = true)
     public List<Long> findAllByAccountId(Long accountId) {
-        List<StoreAccount> allByAccountId = storeAccountRepository.findAllByAccountId(accountId);
-        log.info("회원 ID로 조회한 매장 ID 목록: accountId={}, storeId={}", accountId, allByAccountId);
-        return allByAccountId.stream().map(storeAccount ->
-                storeAccount.getStore().getId()).toList();
+        List<Long> storeIds = storeAccountRepository.findStoreIdsByAccountId(accountId);
+        log.info("회원 ID로 조회한 매장 ID 목록: accountId={}, storeId={}", accountId, storeIds);
+        return storeIds;
     }
 
     @Transactional(readOnly = true)
     public List<String> findAllStoreNameByAccountId(Long accountId) {
-        List<StoreAccount> allByAccountId = storeAccountRepository.findAllByAccountId(accountId);
-        log.info("회원 ID로 조회한 매장 ID 목록: accountId={}, storeId={}", accountId, allByAccountId);
-        return allByAccountId.stream().map(storeAccount ->
-                storeAccount.getStore().getName()).toList();
+        List<String> storeNames = storeAccountRepository.findStoreNamesByAccountId(accountId);
+        log.info("회원 ID로 조회한 매장 이름 목록: accountId={}, storeName={}", accountId, storeNames);
+        return storeNames;
+    }
+
+    /**
+     * 계정이 소속된 모든 매장의 이름, 주소와 계정의 역할을 조회한다. 매장 수와 관계없이 쿼리 한 번으로 조회한다.
+     *
+     * @param accountId 계정 ID
+     * @return {@code List<StoreNameAddrDTO>} 매장 ID 순 매장 정보 목록
+     */
+    @Transactional(readOnly = true)
+    public List<StoreNameAddrDTO> findAllStoreNameAddrByAccountId(Long accountId) {
+        return storeAccountRepository.findStoreNameAddrByAccountId(accountId);
     }
 
 
@@ -8,6 +8,8 @@ import com.ss6051.backendspring.global.domain.Role;
 import com.ss6051.backendspring.schedule.common.domain.Schedule;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -23,23 +25,38 @@ import java.util.stream.Stream;
 public class Store {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "store_seq")
+    @SequenceGenerator(name = "store_seq", sequenceName = "store_seq", allocationSize = 50)
     private Long id;
     private String name;
 
     @ManyToOne
     private Account owner; // 사장
 
+    // 같은 store_account 행을 역할로 나누어 매핑 - 각 목록은 해당 역할의 행만 불러온다
     @OneToMany(mappedBy = "store")
+    @SQLRestriction("role = 'MANAGER'")
     @Builder.Default
-    private List<StoreAccount> managerList = new ArrayList<>(); // 직원 목록
+    private List<StoreAccount> managerList = new ArrayList<>(); // 관리자 목록
 
     @OneToMany(mappedBy = "store")
+    @SQLRestriction("role = 'EMPLOYEE'")
     @Builder.Default
     private List<StoreAccount> employeeList = new ArrayList<>(); // 직원 목록
 
     @OneToOne(cascade = CascadeType.REMOVE, orphanRemoval = true)
     private Address address;
+
+    // 역할별 소속 인원 수. 소속 계정 추가/삭제, 역할 변경 시 같은 트랜잭션에서 증감하고, 어긋난 값은 주기적으로 재계산해 맞춘다
+    @ColumnDefault("0")
+    @Builder.Default
+    private long ownerCount = 0;
+    @ColumnDefault("0")
+    @Builder.Default
+    private long managerCount = 0;
+    @ColumnDefault("0")
+    @Builder.Default
+    private long employeeCount = 0;
 //
 //    @Setter
 //    @OneToOne(mappedBy = "store", cascade = CascadeType.REMOVE, orphanRemoval = true)
@@ -59,10 +76,11 @@ public class Store {
      * @return List<Account> 매장에 속한 모든 관리자 계정
      */
     public List<Account> getManageableAccounts() {
-        return getStoreAccountStream()
-                .filter(storeAccount -> storeAccount.getRole().isManageable()) // Manager 권한 이상
-                .map(StoreAccount::getAccount).toList();
-
+        // 사장과 관리자 목록만 사용 - 직원 목록은 불러오지 않는다
+        return Stream.concat(
+                Stream.of(owner),
+                managerList.stream().map(StoreAccount::getAccount)
+        ).toList();
     }
 
     @Deprecated
@@ -106,7 +124,10 @@ public class Store {
         );
     }
 
-    public long getEmployeeCount() {
-        return employeeList.size();
+    /**
+     * 매장에 속한 모든 계정(사장, 관리자, 직원) 수. 소속 목록을 불러오지 않고 역할별 인원 수의 합으로 구한다.
+     */
+    public long getHeadcount() {
+        return ownerCount + managerCount + employeeCount;
     }
 }
\ No newline at end of file
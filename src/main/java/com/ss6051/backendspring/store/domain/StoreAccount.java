@@ -6,6 +6,7 @@ import com.ss6051.backendspring.global.domain.Account;
 import com.ss6051.backendspring.global.domain.Role;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
@@ -13,10 +14,13 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonIdentityInfo(generator = ObjectIdGenerators.IntSequenceGenerator.class, property = "id")
+@Table(uniqueConstraints = @UniqueConstraint(name = "store_account_store_account_uk", columnNames = {"store_id", "account_id"}), // 매장 소속 여부 조회 인덱스 겸용
+        indexes = @Index(name = "store_account_account_idx", columnList = "account_id")) // 계정이 소속된 매장 조회
 public class StoreAccount {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "store_account_seq")
+    @SequenceGenerator(name = "store_account_seq", sequenceName = "store_account_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -34,5 +38,8 @@ public class StoreAccount {
     @Setter
     private Long baseSalary;
 
+    @ColumnDefault("0")
+    private long workRevision; // 실제 근무 기록이 바뀔 때마다 증가. 급여 스냅샷이 최신 근무 기록으로 계산되었는지 확인하는 데 사용
+
 }
 
@@ -1,4 +1,6 @@
 package com.ss6051.backendspring.store.dto;
 
-public record StoreNameAddrDTO(Long id, String name, String streetAddress, String lotNumberAddress) {
+import com.ss6051.backendspring.global.domain.Role;
+
+public record StoreNameAddrDTO(Long id, String name, String streetAddress, String lotNumberAddress, Role role) {
 }
@@ -0,0 +1,6 @@
+package com.ss6051.backendspring.store.dto;
+
+import com.ss6051.backendspring.global.domain.Role;
+
+public record StoreRoleDTO(Long storeId, Role role) {
+}
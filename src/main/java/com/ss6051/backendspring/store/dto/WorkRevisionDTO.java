@@ -0,0 +1,4 @@
+package com.ss6051.backendspring.store.dto;
+
+public record WorkRevisionDTO(Long accountId, long workRevision) {
+}
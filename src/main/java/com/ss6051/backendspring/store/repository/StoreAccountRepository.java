@@ -2,7 +2,16 @@ package com.ss6051.backendspring.store.repository;
 
 import com.ss6051.backendspring.store.domain.StoreAccount;
 import com.ss6051.backendspring.store.domain.StoreAccountId;
+import com.ss6051.backendspring.store.dto.AllAccountsRequestDTO;
+import com.ss6051.backendspring.store.dto.StoreNameAddrDTO;
+import com.ss6051.backendspring.store.dto.StoreRoleDTO;
+import com.ss6051.backendspring.store.dto.WorkRevisionDTO;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +21,47 @@ import java.util.Optional;
 public interface StoreAccountRepository extends JpaRepository<StoreAccount, Long> {
     Optional<StoreAccount> findByStoreIdAndAccountId(Long storeId, Long accountId);
     List<StoreAccount> findAllByAccountId(Long accountId);
+
+    // 매장 소속 여부 - (store_id, account_id) 유니크 인덱스로 조회
+    boolean existsByStoreIdAndAccountId(Long storeId, Long accountId);
+
+    // 매장 소속 계정(사장, 관리자, 직원)과 기본급을 한 번에 조회
+    @Query("select sa from StoreAccount sa join fetch sa.account where sa.store.id = :storeId")
+    List<StoreAccount> findAllByStoreId(@Param("storeId") Long storeId);
+
+    // 매장 소속 계정(사장, 관리자, 직원)의 ID와 닉네임만 계정 ID 순으로 조회
+    @Query("select new com.ss6051.backendspring.store.dto.AllAccountsRequestDTO(a.id, a.nickname) " +
+            "from StoreAccount sa join sa.account a where sa.store.id = :storeId order by a.id")
+    List<AllAccountsRequestDTO> findAccountSummariesByStoreId(@Param("storeId") Long storeId);
+
+    // 계정이 소속된 매장 ID만 조회 (매장을 불러오지 않음)
+    @Query("select sa.store.id from StoreAccount sa where sa.account.id = :accountId order by sa.store.id")
+    List<Long> findStoreIdsByAccountId(@Param("accountId") Long accountId);
+
+    // 계정이 소속된 매장 이름만 조회
+    @Query("select s.name from StoreAccount sa join sa.store s where sa.account.id = :accountId order by s.id")
+    List<String> findStoreNamesByAccountId(@Param("accountId") Long accountId);
+
+    // 계정이 소속된 매장의 이름, 주소와 계정의 역할을 한 번에 조회
+    @Query("select new com.ss6051.backendspring.store.dto.StoreNameAddrDTO(s.id, s.name, a.streetAddress, a.lotNumberAddress, sa.role) " +
+            "from StoreAccount sa join sa.store s left join s.address a where sa.account.id = :accountId order by s.id")
+    List<StoreNameAddrDTO> findStoreNameAddrByAccountId(@Param("accountId") Long accountId);
+
+    // 실제 근무 기록 변경 순번 증가 - 행 잠금은 트랜잭션이 끝날 때까지 유지된다
+    @Modifying
+    @Query("update StoreAccount sa set sa.workRevision = sa.workRevision + 1 where sa.store.id = :storeId and sa.account.id = :accountId")
+    int incrementWorkRevision(@Param("storeId") Long storeId, @Param("accountId") Long accountId);
+
+    @Modifying
+    @Query("update StoreAccount sa set sa.workRevision = sa.workRevision + 1 where sa.store.id = :storeId")
+    int incrementWorkRevisionOfStore(@Param("storeId") Long storeId);
+
+    // 매장 소속 계정의 실제 근무 기록 변경 순번을 잠그고 조회 - 진행 중인 근무 기록 변경이 끝날 때까지 기다린다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.ss6051.backendspring.store.dto.WorkRevisionDTO(sa.account.id, sa.workRevision) from StoreAccount sa where sa.store.id = :storeId")
+    List<WorkRevisionDTO> findWorkRevisionsForUpdate(@Param("storeId") Long storeId);
+
+    // 계정이 소속된 매장 ID와 역할만 조회 (엔티티를 불러오지 않음)
+    @Query("select new com.ss6051.backendspring.store.dto.StoreRoleDTO(sa.store.id, sa.role) from StoreAccount sa where sa.account.id = :accountId")
+    List<StoreRoleDTO> findStoreRolesByAccountId(@Param("accountId") Long accountId);
 }
@@ -1,8 +1,40 @@
 package com.ss6051.backendspring.store.repository;
 
+import com.ss6051.backendspring.global.domain.Role;
 import com.ss6051.backendspring.store.domain.Store;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface StoreRepository extends JpaRepository<Store, Long> {
 
+    // 매장 전체 인원 수만 조회 (매장과 소속 목록을 불러오지 않음)
+    @Query("select s.ownerCount + s.managerCount + s.employeeCount from Store s where s.id = :id")
+    Optional<Long> findHeadcount(@Param("id") Long id);
+
+    // 역할별 인원 수를 한 번의 UPDATE로 증감 - 동시에 등록/삭제해도 행 잠금으로 순서대로 반영된다
+    @Modifying
+    @Query("update Store s set s.ownerCount = s.ownerCount + :owner, s.managerCount = s.managerCount + :manager, " +
+            "s.employeeCount = s.employeeCount + :employee where s.id = :id")
+    int addHeadcount(@Param("id") Long id, @Param("owner") long owner, @Param("manager") long manager, @Param("employee") long employee);
+
+    // 역할별 인원 수가 실제 소속 계정 수와 다른 매장 ID
+    @Query("select s.id from Store s where " +
+            "s.ownerCount <> (select count(sa) from StoreAccount sa where sa.store = s and sa.role = :owner) or " +
+            "s.managerCount <> (select count(sa) from StoreAccount sa where sa.store = s and sa.role = :manager) or " +
+            "s.employeeCount <> (select count(sa) from StoreAccount sa where sa.store = s and sa.role = :employee)")
+    List<Long> findHeadcountDriftedIds(@Param("owner") Role owner, @Param("manager") Role manager, @Param("employee") Role employee);
+
+    // 역할별 인원 수를 소속 계정 수로 다시 계산
+    @Modifying
+    @Query("update Store s set " +
+            "s.ownerCount = (select count(sa) from StoreAccount sa where sa.store = s and sa.role = :owner), " +
+            "s.managerCount = (select count(sa) from StoreAccount sa where sa.store = s and sa.role = :manager), " +
+            "s.employeeCount = (select count(sa) from StoreAccount sa where sa.store = s and sa.role = :employee) " +
+            "where s.id in :ids")
+    int recountHeadcount(@Param("ids") List<Long> ids, @Param("owner") Role owner, @Param("manager") Role manager, @Param("employee") Role employee);
 }
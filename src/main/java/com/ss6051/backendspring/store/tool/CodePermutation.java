@@ -0,0 +1,88 @@
+package com.ss6051.backendspring.store.tool;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+
+/**
+ * 일회성 코드 공간(36^5개)에 대한 키 기반 순열.
+ * 코드 공간을 앞 2자리(36^2)와 뒤 3자리(36^3)로 나누고, 한쪽에 다른 쪽의 HMAC-SHA256 값을 더하는 라운드를 번갈아 적용한다.
+ * 각 라운드는 빼기로 되돌릴 수 있으므로 전체가 코드 공간 위의 일대일 대응이며, 서로 다른 번호는 항상 서로 다른 코드가 된다.
+ * 키를 모르면 연속된 번호의 코드를 보고 다음 코드를 짐작할 수 없다.
+ */
+public class CodePermutation {
+
+    public static final String CHARACTERS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    public static final int CODE_LENGTH = 5;
+
+    private static final int RADIX = CHARACTERS.length();
+    private static final int LEFT_SIZE = RADIX * RADIX; // 앞 2자리
+    private static final int RIGHT_SIZE = RADIX * RADIX * RADIX; // 뒤 3자리
+    public static final long SPACE = (long) LEFT_SIZE * RIGHT_SIZE; // 36^5
+
+    private static final int ROUNDS = 8;
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final int leftSize;
+    private final int rightSize;
+    private final ThreadLocal<Mac> mac; // Mac은 스레드 안전하지 않아 스레드마다 하나씩 사용
+
+    public CodePermutation(byte[] key) {
+        this(key, LEFT_SIZE, RIGHT_SIZE);
+    }
+
+    // 작은 코드 공간(leftSize * rightSize)에서 전체를 돌며 일대일 대응인지 확인하는 테스트용
+    CodePermutation(byte[] key, int leftSize, int rightSize) {
+        this.leftSize = leftSize;
+        this.rightSize = rightSize;
+        SecretKeySpec keySpec = new SecretKeySpec(key.clone(), ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(ALGORITHM);
+                instance.init(keySpec);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e); // 모든 JVM은 HmacSHA256을 지원해야 한다
+            }
+        });
+    }
+
+    /**
+     * 번호에 대응하는 코드를 반환한다.
+     *
+     * @param index 0 이상 {@link #SPACE} 미만의 번호
+     * @return 5자리 코드
+     */
+    public String codeAt(long index) {
+        if (index < 0 || index >= (long) leftSize * rightSize) {
+            throw new IllegalArgumentException("index out of code space: " + index);
+        }
+        int left = (int) (index / rightSize);
+        int right = (int) (index % rightSize);
+        Mac round = mac.get();
+        for (int i = 0; i < ROUNDS; i++) {
+            if (i % 2 == 0) {
+                left = (left + roundValue(round, i, right) % leftSize) % leftSize; // 더하기 전에 줄여 int 넘침 방지
+            } else {
+                right = (right + roundValue(round, i, left) % rightSize) % rightSize;
+            }
+        }
+        return encode((long) left * rightSize + right);
+    }
+
+    // 라운드 번호와 입력의 HMAC 앞 4바이트 (음수가 되지 않도록 부호 비트 제거)
+    private static int roundValue(Mac mac, int round, int input) {
+        byte[] digest = mac.doFinal(ByteBuffer.allocate(8).putInt(round).putInt(input).array());
+        return ByteBuffer.wrap(digest).getInt() & Integer.MAX_VALUE;
+    }
+
+    private static String encode(long value) {
+        char[] code = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = CHARACTERS.charAt((int) (value % RADIX));
+            value /= RADIX;
+        }
+        return new String(code);
+    }
+}
@@ -0,0 +1,93 @@
+package com.ss6051.backendspring.store.tool;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리 일회성 코드 저장소. 코드를 만든 서버에서만 사용할 수 있다.
+ * 코드와 매장의 대응은 동시 접근 가능한 맵 두 개에 저장하며, 코드 예약과 매장 등록을 원자적으로 처리한다.
+ * 조회와 등록은 만료 시각을 직접 확인하므로, 만료 처리가 늦어져도 만료된 코드는 쓰이지 않고 새 코드로 바뀐다.
+ * 만료는 하나의 스케줄러 스레드가 모든 코드를 처리한다.
+ */
+@Slf4j
+public class InMemoryOneTimeCodeStore implements OneTimeCodeStore, AutoCloseable {
+
+    private final ConcurrentHashMap<String, Binding> codeToStoreMap = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Binding> storeToCodeMap = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService expirationScheduler;
+
+    public InMemoryOneTimeCodeStore() {
+        this(Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "one-time-code-expiration");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    InMemoryOneTimeCodeStore(ScheduledExecutorService expirationScheduler) {
+        this.expirationScheduler = expirationScheduler;
+    }
+
+    @Override
+    public String findCode(long storeId) {
+        Binding binding = storeToCodeMap.get(storeId);
+        if (binding == null || binding.expiresAt() <= System.currentTimeMillis()) { // 만료 처리 전이라도 만료 시각이 지났으면 사용 불가
+            return null;
+        }
+        return binding.code();
+    }
+
+    @Override
+    public Long findStoreId(String code) {
+        Binding binding = codeToStoreMap.get(code);
+        if (binding == null || binding.expiresAt() <= System.currentTimeMillis()) { // 만료 처리 전이라도 만료 시각이 지났으면 사용 불가
+            return null;
+        }
+        return binding.storeId();
+    }
+
+    @Override
+    public String bindIfAbsent(long storeId, String code, long expiresAt) {
+        Binding binding = new Binding(storeId, code, expiresAt);
+        long now = System.currentTimeMillis();
+        // 매장 키 단위로 잠기므로 같은 매장의 코드는 한 번만 만들어진다. 만료 시각이 지난 대응은 만료 처리 전이라도 새 코드로 바꾼다.
+        // 코드가 다른 매장에서 아직 유효하면 대응시키지 않는다(null)
+        Binding bound = storeToCodeMap.compute(storeId, (id, current) -> {
+            if (current != null && current.expiresAt() > now) {
+                return current;
+            }
+            if (current != null) {
+                codeToStoreMap.remove(current.code(), current);
+            }
+            Binding reserved = codeToStoreMap.compute(code,
+                    (key, other) -> other == null || other.expiresAt() <= now ? binding : other);
+            return reserved == binding ? binding : null;
+        });
+        if (bound == binding) {
+            scheduleExpiration(binding);
+        }
+        return bound == null ? null : bound.code();
+    }
+
+    @Override
+    public void close() {
+        expirationScheduler.shutdownNow();
+    }
+
+    private void scheduleExpiration(final Binding binding) {
+        long delay = Math.max(0, binding.expiresAt() - System.currentTimeMillis());
+        expirationScheduler.schedule(() -> {
+            // 같은 코드/매장 대응일 때만 제거 - 그 사이 새로 발급된 대응은 건드리지 않는다
+            storeToCodeMap.remove(binding.storeId(), binding);
+            codeToStoreMap.remove(binding.code(), binding);
+            log.info("One-time code expired: {}", binding.code());
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private record Binding(Long storeId, String code, long expiresAt) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.ss6051.backendspring.store.tool;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 일회성 코드 저장소(one_time_code 테이블). 여러 서버가 같은 코드를 조회할 수 있어 로드 밸런서 뒤에서도 직원 등록이 된다.
+ * 코드는 기본 키, 매장 ID는 유니크 인덱스로 조회하며, 유니크 제약이 코드/매장 대응의 원자성을 보장한다.
+ * 만료된 코드는 조회 조건에서 제외하고, 일정 주기로 한 번에 지운다.
+ */
+@Slf4j
+public class JdbcOneTimeCodeStore implements OneTimeCodeStore, AutoCloseable {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "one-time-code-sweeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public JdbcOneTimeCodeStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * one_time_code 테이블이 없으면 만든다. 엔티티가 아니므로 Hibernate가 만들지 않는다.
+     */
+    public void createTableIfNotExists() {
+        jdbcTemplate.execute("create table if not exists one_time_code ("
+                + "code varchar(16) not null primary key, "
+                + "store_id bigint not null, "
+                + "expires_at bigint not null, "
+                + "constraint one_time_code_store_uk unique (store_id))");
+        try {
+            jdbcTemplate.execute("create index one_time_code_expires_idx on one_time_code (expires_at)");
+        } catch (DataAccessException e) { // 인덱스 IF NOT EXISTS 문법은 DB마다 달라 이미 있으면 실패를 무시한다
+            log.debug("one_time_code 인덱스 생성 건너뜀: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 만료된 코드를 주기적으로 지운다.
+     */
+    public void startSweeping(long intervalSeconds) {
+        sweeper.scheduleWithFixedDelay(() -> {
+            try {
+                int removed = jdbcTemplate.update("delete from one_time_code where expires_at <= ?", System.currentTimeMillis());
+                if (removed > 0) {
+                    log.info("만료된 일회성 코드 삭제: {}건", removed);
+                }
+            } catch (DataAccessException e) {
+                log.warn("만료된 일회성 코드 삭제 실패: {}", e.getMessage());
+            }
+        }, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public String findCode(long storeId) {
+        List<String> codes = jdbcTemplate.queryForList("select code from one_time_code where store_id = ? and expires_at > ?",
+                String.class, storeId, System.currentTimeMillis());
+        return codes.isEmpty() ? null : codes.get(0);
+    }
+
+    @Override
+    public Long findStoreId(String code) {
+        List<Long> storeIds = jdbcTemplate.queryForList("select store_id from one_time_code where code = ? and expires_at > ?",
+                Long.class, code, System.currentTimeMillis());
+        return storeIds.isEmpty() ? null : storeIds.get(0);
+    }
+
+    @Override
+    public String bindIfAbsent(long storeId, String code, long expiresAt) {
+        long now = System.currentTimeMillis();
+        // 아직 지워지지 않은 만료 행이 유니크 제약에 걸리지 않도록 먼저 지운다
+        jdbcTemplate.update("delete from one_time_code where (code = ? or store_id = ?) and expires_at <= ?", code, storeId, now);
+        try {
+            int inserted = jdbcTemplate.update("insert into one_time_code (code, store_id, expires_at) "
+                            + "select ?, ?, ? where not exists (select 1 from one_time_code where code = ? or store_id = ?)",
+                    code, storeId, expiresAt, code, storeId);
+            if (inserted == 1) {
+                return code;
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 동시에 같은 코드 또는 같은 매장을 등록한 경우
+            log.debug("일회성 코드 등록 충돌: storeId={}, code={}", storeId, code);
+        }
+        return findCode(storeId); // 매장에 이미 코드가 있으면 그 코드, 없으면 코드가 다른 매장에 쓰이고 있으므로 null
+    }
+
+    @Override
+    public void close() {
+        sweeper.shutdownNow();
+    }
+}
@@ -1,91 +1,70 @@
 package com.ss6051.backendspring.store.tool;
 
-import com.ss6051.backendspring.global.exception.CustomException;
-import com.ss6051.backendspring.global.exception.ErrorCode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.security.SecureRandom;
-import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 일회성 코드 생성 서비스
+ * 코드는 증가하는 번호를 키 기반 순열({@link CodePermutation})로 바꾸어 만들므로 사용 중인 코드가 많아도 재시도 없이 O(1)로 발급된다.
+ * 코드와 매장의 대응은 {@link OneTimeCodeStore}에 저장한다.
  */
 @Component
 @Slf4j
 public class OneTimeCodeGenerator {
-    private static final String CHARACTERS = "0123456789abcdefghijklmnopqrstuvwxyz";
-    private static final int CODE_LENGTH = 5;
+    private static final int KEY_BYTES = 32;
     private static final long EXPIRATION_TIME_MS = 5 * 60 * 1000; // 5 minutes
 
-    private final Set<String> usedCodes = new HashSet<>();
-    private final Map<String, Long> codeToStoreMap = new HashMap<>();
-    private final Map<Long, String> StoreToCodeMap = new HashMap<>();
-    private final SecureRandom random = new SecureRandom();
+    private final OneTimeCodeStore codeStore;
+    private final CodePermutation permutation;
+    private final AtomicLong counter = new AtomicLong(); // 다음에 코드로 바꿀 번호
+
+    public OneTimeCodeGenerator(OneTimeCodeStore codeStore) {
+        this.codeStore = codeStore;
+        // 서버마다, 시작할 때마다 새 키를 사용한다. 다른 서버나 재시작 전의 코드와 겹치면 저장소가 거절하고 다음 번호를 사용한다
+        byte[] key = new byte[KEY_BYTES];
+        new SecureRandom().nextBytes(key);
+        this.permutation = new CodePermutation(key);
+    }
 
     /**
      * 일회성 코드를 생성한다.
+     * 같은 매장에 대해 동시에 호출해도 하나의 코드만 만들어지며, 이미 유효한 코드가 있으면 그 코드를 반환한다.
      * @param storeId 매장 ID
      * @return 생성된 일회성 코드
      */
     public String generateUniqueCode(Long storeId) {
-        String code;
-        if (StoreToCodeMap.containsKey(storeId)) {
-            code = StoreToCodeMap.get(storeId);
-            log.info("One-time code already exists for store {}: {}", storeId, code);
-            return code;
+        String existing = codeStore.findCode(storeId);
+        if (existing != null) {
+            log.info("One-time code already exists for store {}: {}", storeId, existing);
+            return existing;
         }
-        do {
-            code = generateRandomCode();
-        } while (usedCodes.contains(code));
 
-        usedCodes.add(code);
-        codeToStoreMap.put(code, storeId);
-        StoreToCodeMap.put(storeId, code);
-        scheduleExpiration(code);
-
-        log.info("Generated one-time code for store {}: {}", storeId, code);
+        long expiresAt = System.currentTimeMillis() + EXPIRATION_TIME_MS;
+        String bound;
+        do {
+            // 순열이므로 코드 공간(36^5)을 한 바퀴 돌기 전까지는 이 서버에서 겹치지 않는다.
+            // 한 바퀴 돈 뒤에는 만료된 코드의 자리를 다시 쓰며, 아직 유효한 코드와 겹칠 때만 다음 번호로 넘어간다
+            String code = permutation.codeAt(Math.floorMod(counter.getAndIncrement(), CodePermutation.SPACE));
+            bound = codeStore.bindIfAbsent(storeId, code, expiresAt);
+        } while (bound == null);
 
-        return code;
+        log.info("Generated one-time code for store {}: {}", storeId, bound);
+        return bound;
     }
 
     /**
      * 코드에 해당하는 매장 ID를 반환한다.
-     * 해당하는 코드가 없으면 null을 반환한다.
+     * 해당하는 코드가 없거나 만료되었으면 null을 반환한다.
      * @param code 일회성 코드
      * @return 매장 ID
      */
     public Long getStoreIdWithCode(String code) {
-        if (!usedCodes.contains(code)) {
+        if (code == null) {
             return null;
         }
-        Long result = codeToStoreMap.get(code);
-        if (result == null) {
-            log.error("Code {} is used but store ID is not found", code);
-            throw new CustomException(ErrorCode.CODE_NO_STORE_MATCHES, code);
-        }
-        return result;
-    }
-
-    private String generateRandomCode() {
-        StringBuilder code = new StringBuilder(CODE_LENGTH);
-        for (int i = 0; i < CODE_LENGTH; i++) {
-            int index = random.nextInt(CHARACTERS.length());
-            code.append(CHARACTERS.charAt(index));
-        }
-        return code.toString();
-    }
-
-    private void scheduleExpiration(final String code) {
-        new Timer().schedule(new TimerTask() {
-            @Override
-            public void run() {
-                usedCodes.remove(code);
-                StoreToCodeMap.remove(codeToStoreMap.get(code));
-                codeToStoreMap.remove(code);
-                log.info("One-time code expired: {}", code);
-            }
-        }, EXPIRATION_TIME_MS);
+        return codeStore.findStoreId(code);
     }
 }
-
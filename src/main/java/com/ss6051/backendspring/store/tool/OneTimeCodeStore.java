@@ -0,0 +1,31 @@
+package com.ss6051.backendspring.store.tool;
+
+/**
+ * 일회성 코드 저장소. 매장 하나에는 유효한 코드가 하나만, 코드 하나에는 매장이 하나만 대응한다.
+ * 기본은 메모리 저장소이며, store.one-time-code.store=jdbc로 여러 서버가 공유하는 DB 저장소를 사용할 수 있다.
+ */
+public interface OneTimeCodeStore {
+
+    /**
+     * 매장의 유효한 코드를 조회한다.
+     *
+     * @return 코드. 없거나 만료되었으면 null
+     */
+    String findCode(long storeId);
+
+    /**
+     * 코드에 대응하는 매장 ID를 조회한다.
+     *
+     * @return 매장 ID. 없거나 만료되었으면 null
+     */
+    Long findStoreId(String code);
+
+    /**
+     * 매장에 유효한 코드가 없고 코드가 다른 매장에 쓰이지 않았으면 코드를 매장에 원자적으로 대응시킨다.
+     *
+     * @param expiresAt 만료 시각(epoch ms)
+     * @return 매장에 대응된 코드. 이번에 대응시켰으면 {@code code}, 이미 다른 코드가 있었으면 그 코드,
+     * {@code code}를 다른 매장이 쓰고 있으면 null (다른 코드로 다시 시도해야 한다)
+     */
+    String bindIfAbsent(long storeId, String code, long expiresAt);
+}
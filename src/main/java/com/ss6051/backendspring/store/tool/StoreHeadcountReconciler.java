@@ -0,0 +1,60 @@
+package com.ss6051.backendspring.store.tool;
+
+import com.ss6051.backendspring.store.StoreService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매장 역할별 인원 수 재계산 작업.
+ * 기동 시 한 번(인원 수 컬럼 도입 전 매장 포함) 실행하고, 이후 store.headcount.reconcile-interval-minutes 주기로 다시 실행한다.
+ * 0 이하로 설정하면 기동 시에만 실행한다.
+ */
+@Component
+@Slf4j
+public class StoreHeadcountReconciler implements AutoCloseable {
+
+    private final StoreService storeService;
+    private final long intervalMinutes;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "store-headcount-reconciler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public StoreHeadcountReconciler(StoreService storeService,
+                                    @Value("${store.headcount.reconcile-interval-minutes:60}") long intervalMinutes) {
+        this.storeService = storeService;
+        this.intervalMinutes = intervalMinutes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reconcile();
+        if (intervalMinutes > 0) {
+            scheduler.scheduleWithFixedDelay(this::reconcile, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+        }
+    }
+
+    private void reconcile() {
+        try {
+            int fixed = storeService.reconcileHeadcounts();
+            if (fixed > 0) {
+                log.info("매장 인원 수 재계산 완료: {}개 매장", fixed);
+            }
+        } catch (RuntimeException e) { // 예외가 나면 이후 주기 실행이 멈추므로 기록만 한다
+            log.warn("매장 인원 수 재계산 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
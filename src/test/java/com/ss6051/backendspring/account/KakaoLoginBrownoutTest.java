@@ -0,0 +1,199 @@
+package com.ss6051.backendspring.account;
+
+import com.ss6051.backendspring.global.domain.Account;
+import com.ss6051.backendspring.global.exception.ErrorCode;
+import com.ss6051.backendspring.schedule.common.ScheduleService;
+import com.ss6051.backendspring.store.StoreService;
+import com.ss6051.backendspring.store.domain.Store;
+import com.ss6051.backendspring.store.dto.RegisterStoreDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카카오 서버가 느려졌을 때(brownout) 다른 API가 계속 응답하는지 실제 포트로 확인한다.
+ * 카카오 호출 동시 실행 수(bulkhead)보다 많은 로그인을 보내, 자리를 얻은 로그인은 느린 카카오 대역 서버를 기다리고
+ * 나머지 로그인은 바로 실패하는지, 그동안 근무 일정/급여 API가 요청 스레드와 DB 커넥션을 얻어 빠르게 응답하는지 본다.
+ * 요청 스레드와 커넥션 풀을 작게 잡아, 로그인이 이들을 붙잡고 있으면 다른 API가 느려지도록 한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.threads.max=6",
+        "server.tomcat.threads.min-spare=6",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=1000",
+        "kakao.http.read-timeout-ms=10000",
+        "kakao.bulkhead.max-concurrent=" + KakaoLoginBrownoutTest.BULKHEAD,
+        "kakao.bulkhead.max-wait-ms=0"
+})
+class KakaoLoginBrownoutTest {
+
+    static final int BULKHEAD = 2;
+    private static final int EXTRA_LOGINS = 6;
+    private static final long STUB_DELAY_MILLIS = 3000;
+    private static final long FAST_MILLIS = 1000;
+
+    private static final CountDownLatch slowTokenRequests = new CountDownLatch(BULKHEAD);
+    private static final AtomicLong kakaoIds = new AtomicLong(System.nanoTime());
+    private static final HttpServer kakaoStub = startKakaoStub();
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private StoreService storeService;
+    @Autowired
+    private ScheduleService scheduleService;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newCachedThreadPool())
+            .build();
+
+    @DynamicPropertySource
+    static void kakaoProperties(DynamicPropertyRegistry registry) {
+        String baseUri = "http://localhost:" + kakaoStub.getAddress().getPort();
+        registry.add("kakao.token-uri", () -> baseUri + "/token");
+        registry.add("kakao.user-info-uri", () -> baseUri + "/user");
+    }
+
+    @AfterAll
+    static void stopKakaoStub() {
+        kakaoStub.stop(0);
+    }
+
+    @Test
+    @DisplayName("카카오가 느려도 자리를 얻지 못한 로그인은 바로 실패하고 근무 일정/급여 API는 빠르게 응답한다")
+    void slowKakaoDoesNotStarveOtherRequests() throws Exception {
+        long ownerId = kakaoIds.incrementAndGet();
+        accountRepository.save(Account.builder().id(ownerId).nickname("owner").build());
+        RegisterStoreDto registerStoreDto = new RegisterStoreDto();
+        registerStoreDto.storeName = "store";
+        registerStoreDto.streetAddress = "street " + ownerId;
+        registerStoreDto.lotNumberAddress = "lot " + ownerId;
+        Store store = storeService.registerStore(ownerId, registerStoreDto);
+        scheduleService.createSchedule(store);
+        String accessToken = accountService.issueTokens(ownerId).getAccessToken();
+
+        // 1. bulkhead 자리를 모두 차지하고 카카오 응답을 기다리는 로그인
+        List<CompletableFuture<HttpResponse<String>>> slowLogins = new ArrayList<>();
+        for (int i = 0; i < BULKHEAD; i++) {
+            slowLogins.add(sendAsync(login()));
+        }
+        assertThat(slowTokenRequests.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 2. 자리가 없는 로그인은 카카오를 기다리지 않고 바로 실패한다
+        List<CompletableFuture<TimedResponse>> extraLogins = new ArrayList<>();
+        for (int i = 0; i < EXTRA_LOGINS; i++) {
+            extraLogins.add(timed(login()));
+        }
+        for (CompletableFuture<TimedResponse> extraLogin : extraLogins) {
+            TimedResponse response = extraLogin.get(STUB_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            assertThat(response.status()).isNotEqualTo(200);
+            assertThat(response.body()).contains(ErrorCode.ACCOUNT_KAKAO_LOGIN_FAILED.getCode());
+            assertThat(response.elapsedMillis()).isLessThan(FAST_MILLIS);
+        }
+
+        // 3. 느린 로그인이 진행 중인 동안 근무 일정과 급여 API는 빠르게 응답한다
+        TimedResponse schedule = timed(HttpRequest.newBuilder(uri("/schedule/actual/store"))
+                .header("Authorization", "Bearer " + accessToken)
+                .header("Content-Type", "application/json")
+                .method("GET", HttpRequest.BodyPublishers.ofString("{\"storeId\":" + store.getId() + "}"))
+                .build()).get(STUB_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        TimedResponse salary = timed(HttpRequest.newBuilder(uri("/salary/calculate?storeId=" + store.getId()))
+                .header("Authorization", "Bearer " + accessToken)
+                .GET()
+                .build()).get(STUB_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        assertThat(slowLogins).noneMatch(CompletableFuture::isDone);
+
+        assertThat(schedule.status()).isEqualTo(200);
+        assertThat(schedule.elapsedMillis()).isLessThan(FAST_MILLIS);
+        assertThat(salary.status()).isEqualTo(200);
+        assertThat(salary.elapsedMillis()).isLessThan(FAST_MILLIS);
+
+        // 4. 자리를 얻은 로그인은 카카오가 응답하면 성공한다
+        for (CompletableFuture<HttpResponse<String>> slowLogin : slowLogins) {
+            assertThat(slowLogin.get(10, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+        }
+    }
+
+    private HttpRequest login() {
+        return HttpRequest.newBuilder(uri("/oauth2/kakao?code=code")).GET().build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private CompletableFuture<HttpResponse<String>> sendAsync(HttpRequest request) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private CompletableFuture<TimedResponse> timed(HttpRequest request) {
+        long start = System.nanoTime();
+        return sendAsync(request).thenApply(response -> new TimedResponse(response.statusCode(), response.body(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+    }
+
+    private record TimedResponse(int status, String body, long elapsedMillis) {
+    }
+
+    private static HttpServer startKakaoStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/token", exchange -> {
+                slowTokenRequests.countDown();
+                try {
+                    Thread.sleep(STUB_DELAY_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                respond(exchange, "{\"token_type\":\"bearer\",\"access_token\":\"stub\",\"expires_in\":3600}");
+            });
+            server.createContext("/user", exchange -> respond(exchange,
+                    "{\"id\":" + kakaoIds.incrementAndGet() + ",\"kakao_account\":{\"profile\":{\"nickname\":\"stub\"}}}"));
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.ss6051.backendspring.global.configuration;
+
+import com.ss6051.backendspring.global.domain.Account;
+import com.ss6051.backendspring.schedule.basic.BasicWorkScheduleRepository;
+import com.ss6051.backendspring.schedule.basic.domain.BasicWorkSchedule;
+import com.ss6051.backendspring.schedule.common.domain.Schedule;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기본 근무 일정 생성(createBasicWorkSchedule의 saveAll)이 DB와 몇 번 왕복하는지 IDENTITY ID와 시퀀스(pooled) ID로 비교한다.
+ * Hibernate 통계로 준비한 문장 수를, DataSource를 감싼 JDBC 프록시로 단건 실행과 배치 실행 수를 센다.
+ * IDENTITY는 INSERT마다 생성된 키를 받아야 해서 요일 수만큼 따로 실행되고, pooled는 시퀀스 조회 후 INSERT를 배치 한 번으로 보낸다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaBatchConfig.class, IdBatchingStatementCountTest.JdbcCounterConfig.class})
+class IdBatchingStatementCountTest {
+
+    private static final int DAYS = DayOfWeek.values().length;
+
+    @Autowired
+    private BasicWorkScheduleRepository basicWorkScheduleRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcCounter jdbcCounter;
+
+    private Statistics statistics;
+    private Schedule schedule;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        account = entityManager.persist(Account.builder().id(1L).nickname("employee").build());
+        schedule = entityManager.persist(Schedule.builder().id(1L).build());
+        entityManager.flush();
+
+        statistics.clear();
+        jdbcCounter.reset();
+    }
+
+    @Test
+    @DisplayName("시퀀스 ID: 요일 7건을 시퀀스 조회와 INSERT 배치 한 번으로 저장한다")
+    void pooledIdsBatchInserts() {
+        List<BasicWorkSchedule> schedules = new ArrayList<>();
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            schedules.add(BasicWorkSchedule.builder().schedule(schedule).account(account).dayOfWeek(dayOfWeek).build());
+        }
+        basicWorkScheduleRepository.saveAll(schedules);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(DAYS);
+        // 시퀀스 조회는 pooled 최적화기의 첫 구간을 잡을 때 최대 두 번이다
+        assertThat(jdbcCounter.batches()).isEqualTo(1);
+        assertThat(jdbcCounter.batchedStatements()).isEqualTo(DAYS);
+        assertThat(jdbcCounter.singleExecutions()).isLessThanOrEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("IDENTITY ID: 요일 7건이 INSERT 7번으로 따로 실행되고 배치되지 않는다")
+    void identityIdsInsertOneByOne() {
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            entityManager.persist(new IdentityBasicWorkSchedule(schedule, account, dayOfWeek));
+        }
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(DAYS);
+        assertThat(jdbcCounter.batches()).isZero();
+        assertThat(jdbcCounter.singleExecutions()).isEqualTo(DAYS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(DAYS);
+    }
+
+    @TestConfiguration
+    static class JdbcCounterConfig {
+
+        @Bean
+        JdbcCounter jdbcCounter() {
+            return new JdbcCounter();
+        }
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor(ObjectProvider<JdbcCounter> counter) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? counter.getObject().wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * DataSource에서 나온 Statement의 실행 횟수를 센다. executeBatch는 배치 한 번, 그 외 execute*는 단건 실행 한 번이다.
+     */
+    static class JdbcCounter {
+
+        private final AtomicInteger singleExecutions = new AtomicInteger();
+        private final AtomicInteger batches = new AtomicInteger();
+        private final AtomicInteger batchedStatements = new AtomicInteger();
+
+        int singleExecutions() {
+            return singleExecutions.get();
+        }
+
+        int batches() {
+            return batches.get();
+        }
+
+        int batchedStatements() {
+            return batchedStatements.get();
+        }
+
+        void reset() {
+            singleExecutions.set(0);
+            batches.set(0);
+            batchedStatements.set(0);
+        }
+
+        DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (method, result) ->
+                    result instanceof Connection connection ? proxy(Connection.class, connection, this::wrapStatement) : result);
+        }
+
+        private Object wrapStatement(Method method, Object result) {
+            if (!(result instanceof Statement statement)) {
+                return result;
+            }
+            @SuppressWarnings("unchecked")
+            Class<Statement> type = (Class<Statement>) method.getReturnType();
+            return proxy(type, statement, (invoked, value) -> {
+                String name = invoked.getName();
+                if (name.equals("addBatch")) {
+                    batchedStatements.incrementAndGet();
+                } else if (name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+                    batches.incrementAndGet();
+                } else if (name.startsWith("execute")) {
+                    singleExecutions.incrementAndGet();
+                }
+                return value;
+            });
+        }
+
+        private static <T> T proxy(Class<T> type, T target, ResultHandler handler) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                try {
+                    return handler.handle(method, method.invoke(target, args));
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }));
+        }
+
+        private interface ResultHandler {
+            Object handle(Method method, Object result) throws Exception;
+        }
+    }
+}
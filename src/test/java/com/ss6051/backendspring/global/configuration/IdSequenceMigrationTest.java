@@ -0,0 +1,119 @@
+package com.ss6051.backendspring.global.configuration;
+
+import com.ss6051.backendspring.store.domain.Address;
+import com.ss6051.backendspring.store.repository.AddressRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IDENTITY로 저장된 행이 있을 때 IdSequenceMigration이 시퀀스를 최대 ID 뒤로 옮겨 새 ID가 겹치지 않는지 확인한다.
+ * 시퀀스를 지원하는 DB 경로(ALTER SEQUENCE)와 시퀀스 테이블 경로(next_val 갱신)를 모두 확인한다.
+ * ALTER SEQUENCE가 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@DataJpaTest
+@Import(IdSequenceMigration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdSequenceMigrationTest {
+
+    private static final long EXISTING_MAX_ID = 10_000;
+
+    @Autowired
+    private IdSequenceMigration migration;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private AddressRepository addressRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from address");
+        jdbcTemplate.update("delete from table_sequence_item");
+    }
+
+    @Test
+    @DisplayName("시퀀스를 지원하는 DB: 시퀀스를 최대 ID 뒤로 옮겨 새 ID가 기존 최대 ID보다 크다")
+    void restartsSequenceAfterExistingMaxId() {
+        jdbcTemplate.update("insert into address (id, street_address, lot_number_address) values (?, ?, ?)",
+                EXISTING_MAX_ID, "street", "lot");
+
+        migration.afterSingletonsInstantiated();
+        migration.afterSingletonsInstantiated(); // 다시 실행해도 시퀀스를 뒤로 옮기지 않는다
+
+        long first = saveAddress("first");
+        long second = saveAddress("second");
+        assertThat(first).isGreaterThan(EXISTING_MAX_ID);
+        assertThat(second).isGreaterThan(first);
+        assertThat(jdbcTemplate.queryForObject("select count(distinct id) from address", Long.class)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("시퀀스 테이블을 쓰는 DB: next_val을 최대 ID 뒤로 옮겨 새 ID가 기존 최대 ID보다 크다")
+    void movesSequenceTableAfterExistingMaxId() {
+        IdSequenceMigration.IdSequence sequence = new IdSequenceMigration.IdSequence("table_sequence_item", "table_sequence_item_seq");
+        Dialect withoutSequences = new MySQLDialect();
+        assertThat(withoutSequences.getSequenceSupport().supportsSequences()).isFalse();
+        jdbcTemplate.update("insert into table_sequence_item (id, name) values (?, ?)", EXISTING_MAX_ID, "existing");
+
+        migration.migrate(sequence, withoutSequences);
+        long migrated = nextVal();
+        migration.migrate(sequence, withoutSequences); // 다시 실행해도 그대로다
+        assertThat(nextVal()).isEqualTo(migrated).isGreaterThan(EXISTING_MAX_ID);
+
+        long first = saveItem("first");
+        long second = saveItem("second");
+        assertThat(first).isGreaterThan(EXISTING_MAX_ID);
+        assertThat(second).isGreaterThan(first);
+
+        // next_val이 이미 최대 ID 뒤에 있으면 건드리지 않는다
+        long advanced = nextVal();
+        migration.migrate(sequence, withoutSequences);
+        assertThat(nextVal()).isEqualTo(advanced);
+    }
+
+    @Test
+    @DisplayName("테스트 DB는 시퀀스를 지원한다 - 시퀀스 경로 테스트의 전제")
+    void testDatabaseSupportsSequences() {
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        assertThat(dialect.getSequenceSupport().supportsSequences()).isTrue();
+    }
+
+    private long saveAddress(String name) {
+        return transactionTemplate.execute(status -> addressRepository.save(Address.builder()
+                .streetAddress("street " + name)
+                .lotNumberAddress("lot " + name)
+                .build()).getId());
+    }
+
+    private long saveItem(String name) {
+        return transactionTemplate.execute(status -> {
+            TableSequenceItem item = new TableSequenceItem(name);
+            entityManager.persist(item);
+            return item.getId();
+        });
+    }
+
+    private long nextVal() {
+        return jdbcTemplate.queryForObject("select next_val from table_sequence_item_seq", Long.class);
+    }
+}
@@ -0,0 +1,46 @@
+package com.ss6051.backendspring.global.configuration;
+
+import com.ss6051.backendspring.global.domain.Account;
+import com.ss6051.backendspring.schedule.common.domain.Schedule;
+import jakarta.persistence.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * 시퀀스로 바꾸기 전의 BasicWorkSchedule과 같은 매핑(IDENTITY ID). 저장 시 JDBC 호출 수를 비교하는 테스트에서만 사용한다.
+ */
+@Entity
+public class IdentityBasicWorkSchedule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "schedule_id")
+    private Schedule schedule;
+
+    @ManyToOne
+    @JoinColumn(name = "account_id")
+    private Account account;
+
+    @Enumerated(EnumType.STRING)
+    private DayOfWeek dayOfWeek;
+
+    private LocalTime startTime;
+    private LocalTime endTime;
+
+    protected IdentityBasicWorkSchedule() {
+    }
+
+    IdentityBasicWorkSchedule(Schedule schedule, Account account, DayOfWeek dayOfWeek) {
+        this.schedule = schedule;
+        this.account = account;
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    Long getId() {
+        return id;
+    }
+}
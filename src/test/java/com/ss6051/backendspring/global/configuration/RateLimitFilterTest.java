@@ -0,0 +1,102 @@
+package com.ss6051.backendspring.global.configuration;
+
+import com.ss6051.backendspring.global.domain.AccountPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private static final String RULES = "GET /limited=1/60";
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("신뢰하지 않는 주소에서 온 X-Forwarded-For는 무시하고 원격 주소로 제한한다")
+    void ignoresForwardedForFromUntrustedPeer() throws Exception {
+        RateLimitFilter filter = filter("");
+
+        assertThat(send(filter, "198.51.100.7", "203.0.113.1")).isEqualTo(200);
+        assertThat(send(filter, "198.51.100.7", "203.0.113.2")).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("신뢰하는 프록시 뒤에서는 프록시가 아닌 가장 가까운 주소로 제한한다")
+    void usesClosestUntrustedHopBehindTrustedProxy() throws Exception {
+        RateLimitFilter filter = filter("10.0.0.0/8");
+
+        assertThat(send(filter, "10.0.0.1", "203.0.113.1")).isEqualTo(200);
+        assertThat(send(filter, "10.0.0.2", "203.0.113.2")).isEqualTo(200);
+        // 클라이언트가 왼쪽에 넣은 값은 무시된다
+        assertThat(send(filter, "10.0.0.1", "192.0.2.99, 203.0.113.1, 10.0.0.5")).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("클라이언트 IP는 신뢰하는 프록시를 오른쪽부터 건너뛰고 결정한다")
+    void resolvesClientIp() {
+        RateLimitFilter filter = filter("10.0.0.0/8, 172.16.0.1");
+
+        assertThat(filter.clientIp(request("198.51.100.7", "203.0.113.1"))).isEqualTo("198.51.100.7");
+        assertThat(filter.clientIp(request("10.0.0.1", null))).isEqualTo("10.0.0.1");
+        assertThat(filter.clientIp(request("10.0.0.1", "203.0.113.1, 172.16.0.1"))).isEqualTo("203.0.113.1");
+        assertThat(filter.clientIp(request("10.0.0.1", "10.0.0.3, 10.0.0.4"))).isEqualTo("10.0.0.1");
+        assertThat(filter.clientIp(request("10.0.0.1", "unknown"))).isEqualTo("unknown");
+    }
+
+    @Test
+    @DisplayName("인증된 요청은 IP가 아닌 계정별로 제한한다")
+    void limitsAuthenticatedRequestsPerAccount() throws Exception {
+        RateLimitFilter filter = filter("");
+
+        authenticate(1L);
+        assertThat(send(filter, "198.51.100.7", null)).isEqualTo(200);
+        authenticate(2L); // 같은 IP의 다른 계정
+        assertThat(send(filter, "198.51.100.7", null)).isEqualTo(200);
+        authenticate(1L);
+        assertThat(send(filter, "198.51.100.8", null)).isEqualTo(429);
+
+        SecurityContextHolder.clearContext(); // 같은 IP의 익명 요청은 계정 한도와 무관하다
+        assertThat(send(filter, "198.51.100.7", null)).isEqualTo(200);
+    }
+
+    private static RateLimitFilter filter(String trustedProxies) {
+        try {
+            return new RateLimitFilter(true, RULES, 1000, trustedProxies);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int send(RateLimitFilter filter, String remoteAddr, String forwardedFor) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(remoteAddr, forwardedFor), response, new MockFilterChain());
+        return response.getStatus();
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/limited");
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+
+    private static void authenticate(long accountId) {
+        AccountPrincipal principal = AccountPrincipal.of(accountId, "account" + accountId, Map.of());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+}
@@ -0,0 +1,39 @@
+package com.ss6051.backendspring.global.configuration;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+/**
+ * 시퀀스를 지원하지 않는 DB처럼 ID를 시퀀스 테이블(next_val)에서 pooled 방식으로 받는 엔티티.
+ * H2에서 IdSequenceMigration의 시퀀스 테이블 경로를 확인하는 테스트에서만 사용한다.
+ */
+@Entity
+public class TableSequenceItem {
+
+    @Id
+    @GeneratedValue(generator = "table_sequence_item_seq")
+    @GenericGenerator(name = "table_sequence_item_seq", type = SequenceStyleGenerator.class, parameters = {
+            @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "table_sequence_item_seq"),
+            @Parameter(name = SequenceStyleGenerator.FORCE_TBL_PARAM, value = "true"),
+            @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "50"),
+            @Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled")
+    })
+    private Long id;
+
+    private String name;
+
+    protected TableSequenceItem() {
+    }
+
+    TableSequenceItem(String name) {
+        this.name = name;
+    }
+
+    Long getId() {
+        return id;
+    }
+}
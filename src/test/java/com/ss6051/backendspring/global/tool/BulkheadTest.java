@@ -0,0 +1,60 @@
+package com.ss6051.backendspring.global.tool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkheadTest {
+
+    @Test
+    @DisplayName("자리가 모두 차면 바로 거절하고, 반납하면 다시 받는다")
+    void rejectsWhenFull() {
+        Bulkhead bulkhead = new Bulkhead(2, 0);
+
+        assertThat(bulkhead.tryAcquire()).isTrue();
+        assertThat(bulkhead.tryAcquire()).isTrue();
+        assertThat(bulkhead.available()).isZero();
+        assertThat(bulkhead.tryAcquire()).isFalse();
+        assertThat(bulkhead.rejected()).isEqualTo(1);
+
+        bulkhead.release();
+        assertThat(bulkhead.tryAcquire()).isTrue();
+        assertThat(bulkhead.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 시간이 있으면 그 시간만큼만 기다린 뒤 거절한다")
+    void waitsUpToMaxWait() {
+        Bulkhead bulkhead = new Bulkhead(1, 100);
+        assertThat(bulkhead.tryAcquire()).isTrue();
+
+        long start = System.nanoTime();
+        assertThat(bulkhead.tryAcquire()).isFalse();
+        long waitedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(waitedMillis).isBetween(90L, 2000L);
+        assertThat(bulkhead.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 중에 자리가 반납되면 받는다")
+    void acquiresWhenReleasedWhileWaiting() throws InterruptedException {
+        Bulkhead bulkhead = new Bulkhead(1, 2000);
+        assertThat(bulkhead.tryAcquire()).isTrue();
+
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            bulkhead.release();
+        });
+        releaser.start();
+
+        assertThat(bulkhead.tryAcquire()).isTrue();
+        releaser.join();
+        assertThat(bulkhead.rejected()).isZero();
+    }
+}
@@ -0,0 +1,78 @@
+package com.ss6051.backendspring.global.tool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final long OPEN_MILLIS = 100;
+
+    private final CircuitBreaker breaker = new CircuitBreaker("test", 3, OPEN_MILLIS, 1);
+
+    @Test
+    @DisplayName("연속 실패가 기준에 이르면 열려 호출을 바로 거절한다")
+    void opensAfterConsecutiveFailures() {
+        fail(2);
+        assertThat(breaker.stats().state()).isEqualTo("CLOSED");
+
+        fail(1);
+        assertThat(breaker.stats().state()).isEqualTo("OPEN");
+        assertThat(breaker.stats().opened()).isEqualTo(1);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.stats().rejected()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("성공하면 연속 실패 횟수가 초기화된다")
+    void successResetsFailureCount() {
+        fail(2);
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess();
+        fail(2);
+
+        assertThat(breaker.stats().state()).isEqualTo("CLOSED");
+        assertThat(breaker.stats().consecutiveFailures()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("열림 시간이 지나면 시험 호출 하나만 통과시키고, 성공하면 닫힌다")
+    void halfOpenProbeSuccessCloses() throws InterruptedException {
+        fail(3);
+        Thread.sleep(OPEN_MILLIS + 50);
+
+        assertThat(breaker.tryAcquire()).isTrue(); // 시험 호출
+        assertThat(breaker.stats().state()).isEqualTo("HALF_OPEN");
+        assertThat(breaker.tryAcquire()).isFalse(); // 시험 호출이 끝나기 전의 다른 호출은 거절
+
+        breaker.onSuccess();
+        assertThat(breaker.stats().state()).isEqualTo("CLOSED");
+        assertThat(breaker.stats().probeSuccesses()).isEqualTo(1);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열린다")
+    void halfOpenProbeFailureReopens() throws InterruptedException {
+        fail(3);
+        Thread.sleep(OPEN_MILLIS + 50);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+
+        assertThat(breaker.stats().state()).isEqualTo("OPEN");
+        assertThat(breaker.stats().opened()).isEqualTo(2);
+        assertThat(breaker.stats().probeFailures()).isEqualTo(1);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onFailure();
+        }
+    }
+}
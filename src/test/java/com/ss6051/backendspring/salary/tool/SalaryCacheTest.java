@@ -0,0 +1,88 @@
+package com.ss6051.backendspring.salary.tool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SalaryCacheTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2024, 1, 1);
+    private static final LocalDate JAN_31 = LocalDate.of(2024, 1, 31);
+    private static final LocalDate FEB_1 = LocalDate.of(2024, 2, 1);
+    private static final LocalDate FEB_29 = LocalDate.of(2024, 2, 29);
+
+    @Test
+    @DisplayName("근무일 무효화는 같은 매장/계정에서 그 날짜를 포함하는 기간만 지운다")
+    void invalidateWorkDateRemovesOnlyCoveringPeriods() {
+        SalaryCache cache = new SalaryCache(100, 300);
+        put(cache, 1, 10, JAN_1, JAN_31, 100);
+        put(cache, 1, 10, FEB_1, FEB_29, 200);
+        put(cache, 1, 11, JAN_1, JAN_31, 300);
+        put(cache, 2, 10, JAN_1, JAN_31, 400);
+
+        cache.invalidate(1, 10, LocalDate.of(2024, 1, 15));
+
+        assertThat(cache.get(1, 10, JAN_1, JAN_31)).isNull();
+        assertThat(cache.get(1, 10, FEB_1, FEB_29)).isEqualTo(200);
+        assertThat(cache.get(1, 11, JAN_1, JAN_31)).isEqualTo(300);
+        assertThat(cache.get(2, 10, JAN_1, JAN_31)).isEqualTo(400);
+        assertThat(cache.stats().invalidations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("계정 무효화는 계정의 모든 기간을, 매장 무효화는 매장의 모든 계정을 지운다")
+    void invalidateAccountAndStore() {
+        SalaryCache cache = new SalaryCache(100, 300);
+        put(cache, 1, 10, JAN_1, JAN_31, 100);
+        put(cache, 1, 10, FEB_1, FEB_29, 200);
+        put(cache, 1, 11, JAN_1, JAN_31, 300);
+        put(cache, 2, 10, JAN_1, JAN_31, 400);
+
+        cache.invalidate(1, 10);
+        assertThat(cache.get(1, 10, JAN_1, JAN_31)).isNull();
+        assertThat(cache.get(1, 10, FEB_1, FEB_29)).isNull();
+        assertThat(cache.get(1, 11, JAN_1, JAN_31)).isEqualTo(300);
+
+        cache.invalidateStore(1);
+        assertThat(cache.get(1, 11, JAN_1, JAN_31)).isNull();
+        assertThat(cache.get(2, 10, JAN_1, JAN_31)).isEqualTo(400);
+        assertThat(cache.stats().size()).isEqualTo(1);
+        assertThat(cache.stats().invalidations()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘어 제거된 항목은 무효화 대상으로 세지 않고, 다시 저장하면 무효화된다")
+    void evictedEntriesLeaveIndexes() {
+        SalaryCache cache = new SalaryCache(2, 300);
+        put(cache, 1, 10, JAN_1, JAN_31, 100);
+        put(cache, 1, 11, JAN_1, JAN_31, 200);
+        put(cache, 1, 12, JAN_1, JAN_31, 300); // 계정 10의 항목이 제거된다
+
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+        cache.invalidate(1, 10);
+        assertThat(cache.stats().invalidations()).isZero();
+
+        put(cache, 1, 10, JAN_1, JAN_31, 100); // 계정 11의 항목이 제거된다
+        cache.invalidateStore(1);
+        assertThat(cache.stats().invalidations()).isEqualTo(2);
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("계산을 시작한 뒤 무효화가 있었으면 결과를 저장하지 않는다")
+    void putAfterInvalidationIsIgnored() {
+        SalaryCache cache = new SalaryCache(100, 300);
+        long version = cache.version();
+        cache.invalidateStore(1);
+        cache.put(1, 10, JAN_1, JAN_31, 100, version);
+
+        assertThat(cache.get(1, 10, JAN_1, JAN_31)).isNull();
+    }
+
+    private static void put(SalaryCache cache, long storeId, long accountId, LocalDate startDate, LocalDate endDate, long salary) {
+        cache.put(storeId, accountId, startDate, endDate, salary, cache.version());
+    }
+}
@@ -0,0 +1,99 @@
+package com.ss6051.backendspring.schedule.actual;
+
+import com.ss6051.backendspring.BackendSpringApplication;
+import com.ss6051.backendspring.account.AccountRepository;
+import com.ss6051.backendspring.global.domain.Account;
+import com.ss6051.backendspring.schedule.actual.dto.ActualWorkBulkCreationDTO;
+import com.ss6051.backendspring.schedule.actual.dto.ActualWorkBulkItemDTO;
+import com.ss6051.backendspring.schedule.actual.dto.ActualWorkCreationDTO;
+import com.ss6051.backendspring.schedule.actual.dto.ActualWorkDTO;
+import com.ss6051.backendspring.schedule.common.ScheduleService;
+import com.ss6051.backendspring.store.StoreService;
+import com.ss6051.backendspring.store.domain.Store;
+import com.ss6051.backendspring.store.dto.RegisterStoreDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실제 근무 기록 일괄 생성 벤치마크. 같은 건수를 단건 생성 API로 반복 호출할 때와 일괄 생성 API로 한 번에 저장할 때를 비교한다.
+ * 애플리케이션 컨텍스트를 웹 서버 없이 띄우고 내장 H2에 기록을 저장한다.
+ * <p>
+ * 실행: ./gradlew jmh --args="ActualWorkBulkBenchmark"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActualWorkBulkBenchmark {
+
+    @Param({"10", "100"})
+    private int itemCount;
+
+    private ConfigurableApplicationContext context;
+    private ActualWorkScheduleService actualWorkScheduleService;
+    private long ownerId;
+    private long storeId;
+    private LocalDateTime next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackendSpringApplication.class)
+                .web(WebApplicationType.NONE)
+                .run();
+        actualWorkScheduleService = context.getBean(ActualWorkScheduleService.class);
+
+        Account owner = context.getBean(AccountRepository.class).save(Account.builder()
+                .id(System.nanoTime())
+                .nickname("benchmark")
+                .build());
+        ownerId = owner.getId();
+
+        RegisterStoreDto registerStoreDto = new RegisterStoreDto();
+        registerStoreDto.storeName = "benchmark";
+        registerStoreDto.streetAddress = "street " + ownerId;
+        registerStoreDto.lotNumberAddress = "lot " + ownerId;
+        Store store = context.getBean(StoreService.class).registerStore(ownerId, registerStoreDto);
+        storeId = context.getBean(ScheduleService.class).createSchedule(store).getId();
+        next = LocalDateTime.parse("2024-01-01T09:00");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int single() {
+        int created = 0;
+        for (int i = 0; i < itemCount; i++) {
+            actualWorkScheduleService.createActualWorkSchedule(new ActualWorkCreationDTO(storeId, nextWork()), ownerId);
+            created++;
+        }
+        return created;
+    }
+
+    @Benchmark
+    public int bulk() {
+        List<ActualWorkBulkItemDTO> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new ActualWorkBulkItemDTO(storeId, null, nextWork()));
+        }
+        return actualWorkScheduleService.createActualWorkSchedules(new ActualWorkBulkCreationDTO(items), ownerId).size();
+    }
+
+    // 기록마다 하루씩 옮겨 날짜별 합계 행도 매번 새로 만들어지게 한다
+    private ActualWorkDTO nextWork() {
+        LocalDateTime start = next;
+        next = next.plusDays(1);
+        return new ActualWorkDTO(start, start.plusHours(8));
+    }
+}
@@ -0,0 +1,104 @@
+package com.ss6051.backendspring.schedule.actual;
+
+import com.ss6051.backendspring.account.AccountRepository;
+import com.ss6051.backendspring.global.domain.Account;
+import com.ss6051.backendspring.global.exception.ErrorCode;
+import com.ss6051.backendspring.schedule.actual.dto.ActualWorkBulkCreationDTO;
+import com.ss6051.backendspring.schedule.actual.dto.ActualWorkBulkItemDTO;
+import com.ss6051.backendspring.schedule.actual.dto.ActualWorkBulkResultDTO;
+import com.ss6051.backendspring.schedule.actual.dto.ActualWorkDTO;
+import com.ss6051.backendspring.schedule.common.ScheduleService;
+import com.ss6051.backendspring.schedule.common.domain.Schedule;
+import com.ss6051.backendspring.store.StoreService;
+import com.ss6051.backendspring.store.domain.Store;
+import com.ss6051.backendspring.store.dto.RegisterStoreDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ActualWorkScheduleBulkTest {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong(System.nanoTime());
+
+    @Autowired
+    private ActualWorkScheduleService actualWorkScheduleService;
+    @Autowired
+    private ActualWorkScheduleRepository actualWorkScheduleRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private StoreService storeService;
+    @Autowired
+    private ScheduleService scheduleService;
+
+    private Account owner;
+    private Schedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        owner = accountRepository.save(Account.builder()
+                .id(SEQUENCE.incrementAndGet())
+                .nickname("owner")
+                .build());
+
+        RegisterStoreDto registerStoreDto = new RegisterStoreDto();
+        registerStoreDto.storeName = "store";
+        registerStoreDto.streetAddress = "street " + SEQUENCE.incrementAndGet();
+        registerStoreDto.lotNumberAddress = "lot " + SEQUENCE.incrementAndGet();
+        Store store = storeService.registerStore(owner.getId(), registerStoreDto);
+        schedule = scheduleService.createSchedule(store);
+        storeService.setSchedule(store, schedule);
+    }
+
+    @Test
+    @DisplayName("없는 계정의 항목만 실패하고 나머지 항목은 저장된다")
+    void unknownAccountFailsOnlyItsItem() {
+        long storeId = schedule.getId();
+        long unknownAccountId = SEQUENCE.incrementAndGet();
+        LocalDateTime start = LocalDateTime.parse("2024-03-04T09:00");
+        ActualWorkBulkCreationDTO dto = new ActualWorkBulkCreationDTO(List.of(
+                new ActualWorkBulkItemDTO(storeId, null, new ActualWorkDTO(start, start.plusHours(8))),
+                new ActualWorkBulkItemDTO(storeId, unknownAccountId, new ActualWorkDTO(start, start.plusHours(8))),
+                new ActualWorkBulkItemDTO(storeId, owner.getId(), new ActualWorkDTO(start.plusDays(1), start.plusDays(1).plusHours(8)))));
+
+        List<ActualWorkBulkResultDTO> results = actualWorkScheduleService.createActualWorkSchedules(dto, owner.getId());
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).id()).isNotNull();
+        assertThat(results.get(0).errorCode()).isNull();
+        assertThat(results.get(1).id()).isNull();
+        assertThat(results.get(1).errorCode()).isEqualTo(ErrorCode.ACCOUNT_NOT_FOUND.getCode());
+        assertThat(results.get(1).message()).contains(Long.toString(unknownAccountId));
+        assertThat(results.get(2).id()).isNotNull();
+        assertThat(results.get(2).errorCode()).isNull();
+
+        assertThat(actualWorkScheduleRepository.findAllByScheduleAndAccount(schedule, owner))
+                .extracting(saved -> saved.getId())
+                .containsExactlyInAnyOrder(results.get(0).id(), results.get(2).id());
+    }
+
+    @Test
+    @DisplayName("없는 매장의 항목만 실패하고 나머지 항목은 저장된다")
+    void unknownScheduleFailsOnlyItsItem() {
+        long storeId = schedule.getId();
+        LocalDateTime start = LocalDateTime.parse("2024-03-04T09:00");
+        ActualWorkBulkCreationDTO dto = new ActualWorkBulkCreationDTO(List.of(
+                new ActualWorkBulkItemDTO(SEQUENCE.incrementAndGet(), null, new ActualWorkDTO(start, start.plusHours(8))),
+                new ActualWorkBulkItemDTO(storeId, null, new ActualWorkDTO(start, start.plusHours(8)))));
+
+        List<ActualWorkBulkResultDTO> results = actualWorkScheduleService.createActualWorkSchedules(dto, owner.getId());
+
+        assertThat(results.get(0).errorCode()).isEqualTo(ErrorCode.SCHEDULE_NOT_FOUND.getCode());
+        assertThat(results.get(1).id()).isNotNull();
+        assertThat(actualWorkScheduleRepository.findAllByScheduleAndAccount(schedule, owner)).hasSize(1);
+    }
+}
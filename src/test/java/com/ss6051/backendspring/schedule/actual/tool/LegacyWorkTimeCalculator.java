@@ -0,0 +1,84 @@
+package com.ss6051.backendspring.schedule.actual.tool;
+
+import com.ss6051.backendspring.schedule.actual.domain.ActualWorkSchedule;
+import com.ss6051.backendspring.schedule.actual.dto.WorkTimeResultDto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.ss6051.backendspring.schedule.actual.domain.LaborLawConstant.NIGHT_SHIFT_END_HOUR;
+import static com.ss6051.backendspring.schedule.actual.domain.LaborLawConstant.NIGHT_SHIFT_START_HOUR;
+
+/**
+ * {@link WorkTimeCalculator} 도입 전 ActualWorkScheduleService의 LocalDateTime/Duration 기반 계산 (비교 기준).
+ * 시작일과 종료일의 야간 구간만 보므로 이틀 이내의 근무에서만 맞고, 야간 시간을 누적값으로 빼므로 근무 기록 한 건씩 호출해야 한다.
+ */
+class LegacyWorkTimeCalculator {
+
+    WorkTimeResultDto calculate(List<ActualWorkSchedule> schedules, boolean hasMoreThanFiveEmployees) {
+        long dayWorkMinute = 0;
+        long nightWorkMinute = 0;
+        int workDayCount = 0;
+
+        for (ActualWorkSchedule schedule : schedules) {
+            workDayCount += 1;
+            LocalDateTime startDateTime = adjustWorkTime(schedule.getStartDateTime());
+            LocalDateTime endDateTime = adjustWorkTime(schedule.getEndDateTime());
+
+            dayWorkMinute += Duration.between(startDateTime, endDateTime).toMinutes();
+
+            if (hasMoreThanFiveEmployees) {
+                final LocalDateTime var1s = startDateTime.toLocalDate().atStartOfDay();
+                final LocalDateTime var1e = startDateTime.toLocalDate().atStartOfDay().plusHours(NIGHT_SHIFT_END_HOUR.getValue());
+
+                final LocalDateTime var2s = startDateTime.toLocalDate().atStartOfDay().plusHours(NIGHT_SHIFT_START_HOUR.getValue());
+                final LocalDateTime var2e = startDateTime.toLocalDate().atStartOfDay().plusDays(1);
+
+                if (startDateTime.toLocalDate().atStartOfDay().equals(endDateTime.toLocalDate().atStartOfDay())) {
+                    final LocalDateTime[] starts = {var1s, var2s};
+                    final LocalDateTime[] ends = {var1e, var2e};
+
+                    for (int i = 0; i < 2; i++) {
+                        nightWorkMinute += calculateOverlap(startDateTime, endDateTime, starts[i], ends[i]).toMinutes();
+                    }
+                } else {
+                    final LocalDateTime var3s = endDateTime.toLocalDate().atStartOfDay();
+                    final LocalDateTime var3e = endDateTime.toLocalDate().atStartOfDay().plusHours(NIGHT_SHIFT_END_HOUR.getValue());
+
+                    final LocalDateTime var4s = endDateTime.toLocalDate().atStartOfDay().plusHours(NIGHT_SHIFT_START_HOUR.getValue());
+                    final LocalDateTime var4e = endDateTime.toLocalDate().atStartOfDay().plusDays(1);
+
+                    final LocalDateTime[] starts = {var1s, var2s, var3s, var4s};
+                    final LocalDateTime[] ends = {var1e, var2e, var3e, var4e};
+
+                    for (int i = 0; i < 4; i++) {
+                        nightWorkMinute += calculateOverlap(startDateTime, endDateTime, starts[i], ends[i]).toMinutes();
+                    }
+                }
+            }
+
+            dayWorkMinute -= nightWorkMinute;
+        }
+        return new WorkTimeResultDto(dayWorkMinute, nightWorkMinute, workDayCount);
+    }
+
+    private LocalDateTime adjustWorkTime(LocalDateTime dateTime) {
+        int minute = dateTime.getMinute();
+        if (minute < 15) {
+            dateTime = dateTime.withMinute(0);
+        } else if (minute < 45) {
+            dateTime = dateTime.withMinute(30);
+        } else {
+            dateTime = dateTime.withMinute(0).plusHours(1);
+        }
+        return dateTime;
+    }
+
+    private Duration calculateOverlap(LocalDateTime startDateTime, LocalDateTime endDateTime,
+                                      LocalDateTime rangeStart, LocalDateTime rangeEnd) {
+        LocalDateTime overlapStart = startDateTime.isAfter(rangeStart) ? startDateTime : rangeStart;
+        LocalDateTime overlapEnd = endDateTime.isBefore(rangeEnd) ? endDateTime : rangeEnd;
+        return overlapStart.isBefore(overlapEnd) ? Duration.between(overlapStart, overlapEnd) : Duration.ZERO;
+    }
+}
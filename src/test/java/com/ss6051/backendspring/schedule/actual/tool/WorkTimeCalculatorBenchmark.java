@@ -0,0 +1,66 @@
+package com.ss6051.backendspring.schedule.actual.tool;
+
+import com.ss6051.backendspring.schedule.actual.domain.ActualWorkSchedule;
+import com.ss6051.backendspring.schedule.actual.dto.WorkTimeResultDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 근무 시간 계산 벤치마크. epoch 분 계산과 기존 LocalDateTime/Duration 계산을 같은 근무 기록으로 비교한다.
+ * 기존 계산은 야간 시간을 누적값으로 빼므로 기록마다 따로 호출한다.
+ * <p>
+ * 실행: ./gradlew jmh --args="WorkTimeCalculatorBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkTimeCalculatorBenchmark {
+
+    @Param({"100", "10000"})
+    private int shiftCount;
+
+    private final WorkTimeCalculator calculator = new WorkTimeCalculator();
+    private final LegacyWorkTimeCalculator legacy = new LegacyWorkTimeCalculator();
+    private List<ActualWorkSchedule> schedules;
+    private List<List<ActualWorkSchedule>> singles;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(6051);
+        LocalDateTime base = LocalDateTime.parse("2024-01-01T00:00");
+        schedules = new ArrayList<>(shiftCount);
+        singles = new ArrayList<>(shiftCount);
+        for (int i = 0; i < shiftCount; i++) {
+            LocalDateTime start = base.plusMinutes(random.nextInt(366 * 24 * 60));
+            ActualWorkSchedule schedule = ActualWorkSchedule.builder()
+                    .startDateTime(start)
+                    .endDateTime(start.plusMinutes(60 + random.nextInt(12 * 60)))
+                    .build();
+            schedules.add(schedule);
+            singles.add(List.of(schedule));
+        }
+    }
+
+    @Benchmark
+    public WorkTimeResultDto epochMinutes() {
+        return calculator.calculate(schedules, true);
+    }
+
+    @Benchmark
+    public long legacyLocalDateTime() {
+        long minutes = 0;
+        for (List<ActualWorkSchedule> single : singles) {
+            WorkTimeResultDto result = legacy.calculate(single, true);
+            minutes += result.dayShiftMinute() + result.nightShiftMinute();
+        }
+        return minutes;
+    }
+}
@@ -0,0 +1,159 @@
+package com.ss6051.backendspring.schedule.actual.tool;
+
+import com.ss6051.backendspring.schedule.actual.domain.ActualWorkSchedule;
+import com.ss6051.backendspring.schedule.actual.dto.WorkTimeResultDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkTimeCalculatorTest {
+
+    private final WorkTimeCalculator calculator = new WorkTimeCalculator();
+    private final LegacyWorkTimeCalculator legacy = new LegacyWorkTimeCalculator();
+
+    @Test
+    @DisplayName("주간 근무는 야간 시간 없이 계산한다")
+    void dayShift() {
+        assertThat(calculate("2024-03-04T09:00", "2024-03-04T18:00")).isEqualTo(new WorkTimeResultDto(540, 0, 1));
+    }
+
+    @Test
+    @DisplayName("자정을 넘는 근무는 22시~06시를 야간으로 계산한다")
+    void crossingMidnight() {
+        assertThat(calculate("2024-03-04T21:00", "2024-03-05T03:00")).isEqualTo(new WorkTimeResultDto(60, 300, 1));
+        assertThat(calculate("2024-03-04T23:00", "2024-03-05T07:30")).isEqualTo(new WorkTimeResultDto(90, 420, 1));
+    }
+
+    @Test
+    @DisplayName("22시와 06시 경계는 시작 시각을 포함하고 끝 시각을 제외한다")
+    void nightBoundaries() {
+        assertThat(calculate("2024-03-04T21:00", "2024-03-04T22:00")).isEqualTo(new WorkTimeResultDto(60, 0, 1));
+        assertThat(calculate("2024-03-04T22:00", "2024-03-04T23:00")).isEqualTo(new WorkTimeResultDto(0, 60, 1));
+        assertThat(calculate("2024-03-04T05:00", "2024-03-04T06:00")).isEqualTo(new WorkTimeResultDto(0, 60, 1));
+        assertThat(calculate("2024-03-04T06:00", "2024-03-04T07:00")).isEqualTo(new WorkTimeResultDto(60, 0, 1));
+        assertThat(calculate("2024-03-04T22:00", "2024-03-05T06:00")).isEqualTo(new WorkTimeResultDto(0, 480, 1));
+    }
+
+    @Test
+    @DisplayName("시작/종료 시각은 0분/30분 중 가까운 값으로 조정하고 초는 버린다")
+    void roundsToHalfHour() {
+        assertThat(calculate("2024-03-04T09:14:59", "2024-03-04T10:15")).isEqualTo(new WorkTimeResultDto(90, 0, 1));
+        assertThat(calculate("2024-03-04T09:44", "2024-03-04T10:45")).isEqualTo(new WorkTimeResultDto(90, 0, 1));
+        assertThat(calculate("2024-03-04T21:50", "2024-03-04T22:10")).isEqualTo(new WorkTimeResultDto(0, 0, 1));
+    }
+
+    @Test
+    @DisplayName("종료 시각이 없거나 시작보다 이른 기록은 제외한다")
+    void skipsOpenAndNegativeShifts() {
+        List<ActualWorkSchedule> schedules = List.of(
+                schedule(LocalDateTime.parse("2024-03-04T09:00"), null),
+                schedule(null, LocalDateTime.parse("2024-03-04T18:00")),
+                schedule(LocalDateTime.parse("2024-03-04T18:00"), LocalDateTime.parse("2024-03-04T09:00")),
+                schedule(LocalDateTime.parse("2024-03-05T09:00"), LocalDateTime.parse("2024-03-05T10:00")));
+        assertThat(calculator.calculate(schedules, true)).isEqualTo(new WorkTimeResultDto(60, 0, 1));
+    }
+
+    @Test
+    @DisplayName("5인 미만 매장은 야간 시간도 주간 근무로 계산한다")
+    void lessThanFiveEmployees() {
+        WorkTimeResultDto result = calculator.calculate(List.of(
+                schedule(LocalDateTime.parse("2024-03-04T21:00"), LocalDateTime.parse("2024-03-05T03:00"))), false);
+        assertThat(result).isEqualTo(new WorkTimeResultDto(360, 0, 1));
+    }
+
+    @Test
+    @DisplayName("여러 날에 걸친 근무는 날마다 야간 시간을 더한다")
+    void multiDayShift() {
+        // 3/1 20:00 ~ 3/4 08:00: 야간은 3/1 22~24(2h) + 3/2, 3/3 각 8h + 3/4 0~6(6h) = 24h
+        assertThat(calculate("2024-03-01T20:00", "2024-03-04T08:00")).isEqualTo(new WorkTimeResultDto(36 * 60, 24 * 60, 1));
+    }
+
+    @Test
+    @DisplayName("1970년 이전 시각도 같은 규칙으로 계산한다")
+    void beforeEpoch() {
+        assertThat(calculate("1969-12-31T21:00", "1970-01-01T02:00")).isEqualTo(new WorkTimeResultDto(60, 240, 1));
+    }
+
+    @Test
+    @DisplayName("여러 근무 기록의 합은 기록별 결과의 합과 같다")
+    void sumsShiftsIndependently() {
+        ActualWorkSchedule first = schedule(LocalDateTime.parse("2024-03-04T21:00"), LocalDateTime.parse("2024-03-05T03:00"));
+        ActualWorkSchedule second = schedule(LocalDateTime.parse("2024-03-05T21:00"), LocalDateTime.parse("2024-03-06T03:00"));
+
+        WorkTimeResultDto a = calculator.calculate(List.of(first), true);
+        WorkTimeResultDto b = calculator.calculate(List.of(second), true);
+        assertThat(calculator.calculate(List.of(first, second), true)).isEqualTo(new WorkTimeResultDto(
+                a.dayShiftMinute() + b.dayShiftMinute(), a.nightShiftMinute() + b.nightShiftMinute(), 2));
+    }
+
+    @Test
+    @DisplayName("이틀 이내의 근무는 기존 계산과 결과가 같다")
+    void matchesLegacyWithinTwoDays() {
+        Random random = new Random(6051);
+        for (ActualWorkSchedule schedule : randomShifts(random, 10_000, 47 * 60)) {
+            List<ActualWorkSchedule> single = List.of(schedule);
+            // 기존 계산은 반올림한 종료 시각이 사흘째로 넘어가는 경우를 다루지 못한다
+            if (roundedDays(schedule) > 1) {
+                continue;
+            }
+            assertThat(calculator.calculate(single, true)).as("%s", schedule).isEqualTo(legacy.calculate(single, true));
+            assertThat(calculator.calculate(single, false)).as("%s", schedule).isEqualTo(legacy.calculate(single, false));
+        }
+    }
+
+    @Test
+    @DisplayName("임의의 근무는 분 단위로 센 결과와 같다")
+    void matchesMinuteByMinuteCount() {
+        Random random = new Random(605);
+        for (ActualWorkSchedule schedule : randomShifts(random, 2_000, 5 * 24 * 60)) {
+            assertThat(calculator.calculate(List.of(schedule), true)).as("%s", schedule).isEqualTo(countMinutes(schedule));
+        }
+    }
+
+    private WorkTimeResultDto calculate(String start, String end) {
+        return calculator.calculate(List.of(schedule(LocalDateTime.parse(start), LocalDateTime.parse(end))), true);
+    }
+
+    private static ActualWorkSchedule schedule(LocalDateTime start, LocalDateTime end) {
+        return ActualWorkSchedule.builder().startDateTime(start).endDateTime(end).build();
+    }
+
+    private static List<ActualWorkSchedule> randomShifts(Random random, int count, int maxLengthMinutes) {
+        LocalDateTime base = LocalDateTime.parse("2024-01-01T00:00");
+        List<ActualWorkSchedule> schedules = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = base.plusMinutes(random.nextInt(366 * 24 * 60));
+            schedules.add(schedule(start, start.plusMinutes(random.nextInt(maxLengthMinutes))));
+        }
+        return schedules;
+    }
+
+    private static long roundedDays(ActualWorkSchedule schedule) {
+        long start = WorkTimeCalculator.roundToHalfHour(WorkTimeCalculator.toEpochMinute(schedule.getStartDateTime()));
+        long end = WorkTimeCalculator.roundToHalfHour(WorkTimeCalculator.toEpochMinute(schedule.getEndDateTime()));
+        return Math.floorDiv(end, WorkTimeCalculator.MINUTES_PER_DAY) - Math.floorDiv(start, WorkTimeCalculator.MINUTES_PER_DAY);
+    }
+
+    // 반올림한 구간을 1분씩 세는 기준 계산
+    private static WorkTimeResultDto countMinutes(ActualWorkSchedule schedule) {
+        long start = WorkTimeCalculator.roundToHalfHour(WorkTimeCalculator.toEpochMinute(schedule.getStartDateTime()));
+        long end = WorkTimeCalculator.roundToHalfHour(WorkTimeCalculator.toEpochMinute(schedule.getEndDateTime()));
+        long day = 0;
+        long night = 0;
+        for (long minute = start; minute < end; minute++) {
+            long minuteOfDay = Math.floorMod(minute, WorkTimeCalculator.MINUTES_PER_DAY);
+            if (minuteOfDay < WorkTimeCalculator.NIGHT_END_MINUTE || minuteOfDay >= WorkTimeCalculator.NIGHT_START_MINUTE) {
+                night++;
+            } else {
+                day++;
+            }
+        }
+        return new WorkTimeResultDto(day, night, 1);
+    }
+}
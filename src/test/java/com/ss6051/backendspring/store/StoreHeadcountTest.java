@@ -0,0 +1,139 @@
+package com.ss6051.backendspring.store;
+
+import com.ss6051.backendspring.account.AccountService;
+import com.ss6051.backendspring.global.configuration.OneTimeCodeStoreConfig;
+import com.ss6051.backendspring.global.domain.Account;
+import com.ss6051.backendspring.global.domain.AccountPrincipal;
+import com.ss6051.backendspring.global.domain.Role;
+import com.ss6051.backendspring.salary.tool.SalaryCache;
+import com.ss6051.backendspring.store.domain.Store;
+import com.ss6051.backendspring.store.dto.RegisterStoreDto;
+import com.ss6051.backendspring.store.repository.StoreRepository;
+import com.ss6051.backendspring.store.tool.OneTimeCodeGenerator;
+import com.ss6051.backendspring.store.tool.StoreHeadcountReconciler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 매장 역할별 인원 수 컬럼이 소속 정보 변경(직원 등록/삭제, 역할 변경)과 함께 증감하는지,
+ * 직접 수정해 어긋난 매장을 재계산 쿼리가 찾아 고치는지 확인한다.
+ * 인원 수는 벌크 UPDATE로 바뀌므로 영속성 컨텍스트를 비우고 다시 읽는다.
+ */
+@DataJpaTest
+@Import({StoreService.class, SalaryCache.class, OneTimeCodeGenerator.class, OneTimeCodeStoreConfig.class})
+class StoreHeadcountTest {
+
+    @Autowired
+    private StoreService storeService;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private OneTimeCodeGenerator oneTimeCodeGenerator;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private AccountService accountService;
+
+    private long storeId;
+
+    @BeforeEach
+    void setUp() {
+        given(accountService.findAccount(anyLong()))
+                .willAnswer(invocation -> entityManager.find(Account.class, invocation.getArgument(0)));
+        given(accountService.getAccountReference(anyLong()))
+                .willAnswer(invocation -> entityManager.getEntityManager().getReference(Account.class, invocation.getArgument(0)));
+
+        for (long accountId = 1; accountId <= 4; accountId++) {
+            entityManager.persist(Account.builder().id(accountId).nickname("account" + accountId).build());
+        }
+        RegisterStoreDto registerStoreDto = new RegisterStoreDto();
+        registerStoreDto.storeName = "store";
+        registerStoreDto.streetAddress = "street";
+        registerStoreDto.lotNumberAddress = "lot";
+        storeId = storeService.registerStore(1L, registerStoreDto).getId();
+    }
+
+    @Test
+    @DisplayName("직원 등록/삭제와 역할 변경이 역할별 인원 수에 반영된다")
+    void membershipChangesUpdateHeadcount() {
+        assertCounts(1, 0, 0);
+
+        join(2L);
+        join(3L);
+        join(4L);
+        assertCounts(1, 0, 3);
+
+        given(accountService.findPrincipal(3L)).willReturn(AccountPrincipal.of(3L, "account3", Map.of(storeId, Role.MANAGER)));
+        storeService.updateRole(3L, storeId, Role.MANAGER.name());
+        assertCounts(1, 1, 2);
+        storeService.updateRole(3L, storeId, Role.MANAGER.name()); // 같은 역할로 바꾸면 그대로
+        assertCounts(1, 1, 2);
+
+        storeService.deleteEmployee(3L, storeId);
+        storeService.deleteEmployee(2L, storeId);
+        assertCounts(1, 0, 1);
+        assertThat(storeService.getHeadcount(storeId)).isEqualTo(2);
+        assertThat(storeRepository.findHeadcountDriftedIds(Role.OWNER, Role.MANAGER, Role.EMPLOYEE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("직접 수정해 어긋난 인원 수를 찾아 재계산 작업이 고친다")
+    void reconcilerFixesDriftedHeadcount() {
+        join(2L);
+        join(3L);
+        long otherStoreId = registerOtherStore();
+        entityManager.flush();
+        assertThat(storeRepository.findHeadcountDriftedIds(Role.OWNER, Role.MANAGER, Role.EMPLOYEE)).isEmpty();
+
+        jdbcTemplate.update("update store set employee_count = 10, manager_count = 1 where id = ?", storeId);
+        assertThat(storeRepository.findHeadcountDriftedIds(Role.OWNER, Role.MANAGER, Role.EMPLOYEE)).containsExactly(storeId);
+        assertThat(storeService.getHeadcount(storeId)).isEqualTo(12);
+
+        try (StoreHeadcountReconciler reconciler = new StoreHeadcountReconciler(storeService, 0)) {
+            reconciler.start();
+        }
+
+        assertThat(storeRepository.findHeadcountDriftedIds(Role.OWNER, Role.MANAGER, Role.EMPLOYEE)).isEmpty();
+        assertCounts(1, 0, 2);
+        assertThat(storeService.getHeadcount(otherStoreId)).isEqualTo(1);
+        assertThat(storeService.reconcileHeadcounts()).isZero();
+    }
+
+    private void join(long accountId) {
+        String code = oneTimeCodeGenerator.generateUniqueCode(storeId);
+        assertThat(storeService.registerEmployee(accountId, code)).isEqualTo(storeId);
+    }
+
+    private long registerOtherStore() {
+        RegisterStoreDto registerStoreDto = new RegisterStoreDto();
+        registerStoreDto.storeName = "other";
+        registerStoreDto.streetAddress = "other street";
+        registerStoreDto.lotNumberAddress = "other lot";
+        return storeService.registerStore(4L, registerStoreDto).getId();
+    }
+
+    private void assertCounts(long owners, long managers, long employees) {
+        entityManager.flush();
+        entityManager.clear();
+        Store store = storeRepository.findById(storeId).orElseThrow();
+        assertThat(store.getOwnerCount()).as("owners").isEqualTo(owners);
+        assertThat(store.getManagerCount()).as("managers").isEqualTo(managers);
+        assertThat(store.getEmployeeCount()).as("employees").isEqualTo(employees);
+    }
+}
@@ -0,0 +1,78 @@
+package com.ss6051.backendspring.store.repository;
+
+import com.ss6051.backendspring.global.domain.Account;
+import com.ss6051.backendspring.global.domain.Role;
+import com.ss6051.backendspring.store.domain.Address;
+import com.ss6051.backendspring.store.domain.Store;
+import com.ss6051.backendspring.store.domain.StoreAccount;
+import com.ss6051.backendspring.store.dto.StoreNameAddrDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계정이 소속된 매장 목록(GET /store/user) 조회가 매장 수와 관계없이 쿼리 한 번으로 끝나는지 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class StoreAccountRepositoryQueryCountTest {
+
+    @Autowired
+    private StoreAccountRepository storeAccountRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    @DisplayName("소속 매장 이름/주소/역할 조회는 매장 수와 관계없이 쿼리 한 번이다")
+    void findStoreNameAddrByAccountIdRunsOneQuery(int storeCount) {
+        Account owner = entityManager.persist(Account.builder().id(1000L + storeCount).nickname("owner").build());
+        Account member = entityManager.persist(Account.builder().id(2000L + storeCount).nickname("member").build());
+        for (int i = 0; i < storeCount; i++) {
+            Address address = entityManager.persist(Address.builder()
+                    .streetAddress("street " + storeCount + "-" + i)
+                    .lotNumberAddress("lot " + storeCount + "-" + i)
+                    .build());
+            Store store = entityManager.persist(Store.builder()
+                    .name("store " + i)
+                    .owner(owner)
+                    .address(address)
+                    .build());
+            entityManager.persist(StoreAccount.builder().store(store).account(owner).role(Role.OWNER).build());
+            entityManager.persist(StoreAccount.builder().store(store).account(member)
+                    .role(i % 2 == 0 ? Role.MANAGER : Role.EMPLOYEE).build());
+        }
+        entityManager.flush();
+        entityManager.clear(); // 영속성 컨텍스트에 남은 엔티티로 조회가 생략되지 않도록 비운다
+
+        statistics.clear();
+        List<StoreNameAddrDTO> stores = storeAccountRepository.findStoreNameAddrByAccountId(member.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(stores).hasSize(storeCount);
+        assertThat(stores).allSatisfy(store -> {
+            assertThat(store.name()).startsWith("store ");
+            assertThat(store.streetAddress()).startsWith("street ");
+            assertThat(store.role()).isIn(Role.MANAGER, Role.EMPLOYEE);
+        });
+    }
+}
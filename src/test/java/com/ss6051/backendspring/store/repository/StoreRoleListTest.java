@@ -0,0 +1,90 @@
+package com.ss6051.backendspring.store.repository;
+
+import com.ss6051.backendspring.global.domain.Account;
+import com.ss6051.backendspring.global.domain.Role;
+import com.ss6051.backendspring.store.domain.Address;
+import com.ss6051.backendspring.store.domain.Store;
+import com.ss6051.backendspring.store.domain.StoreAccount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 store_account 행을 역할로 나누어 매핑한 매장의 관리자/직원 목록이 해당 역할의 행만 불러오는지 확인한다.
+ */
+@DataJpaTest
+class StoreRoleListTest {
+
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private StoreAccountRepository storeAccountRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long storeId;
+
+    @BeforeEach
+    void setUp() {
+        Account owner = entityManager.persist(Account.builder().id(1L).nickname("owner").build());
+        Address address = entityManager.persist(Address.builder().streetAddress("street").lotNumberAddress("lot").build());
+        Store store = entityManager.persist(Store.builder().name("store").owner(owner).address(address).build());
+        entityManager.persist(StoreAccount.builder().store(store).account(owner).role(Role.OWNER).build());
+        persistMember(store, 2L, Role.MANAGER);
+        persistMember(store, 3L, Role.MANAGER);
+        persistMember(store, 4L, Role.EMPLOYEE);
+        persistMember(store, 5L, Role.EMPLOYEE);
+        persistMember(store, 6L, Role.EMPLOYEE);
+        storeId = store.getId();
+        entityManager.flush();
+        entityManager.clear(); // 목록을 영속성 컨텍스트가 아닌 DB에서 불러오도록 비운다
+    }
+
+    @Test
+    @DisplayName("관리자 목록과 직원 목록은 각 역할의 소속 계정만 담는다")
+    void listsContainOnlyMatchingRole() {
+        Store store = storeRepository.findById(storeId).orElseThrow();
+
+        assertThat(store.getManagerList()).extracting(StoreAccount::getRole).containsOnly(Role.MANAGER);
+        assertThat(accountIds(store.getManagerList())).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(store.getEmployeeList()).extracting(StoreAccount::getRole).containsOnly(Role.EMPLOYEE);
+        assertThat(accountIds(store.getEmployeeList())).containsExactlyInAnyOrder(4L, 5L, 6L);
+        assertThat(store.getManageableAccounts()).extracting(Account::getId).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(store.getAllAccounts()).extracting(Account::getId).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    @DisplayName("역할을 바꾸면 다시 불러온 목록에서 해당 계정이 다른 역할 목록으로 옮겨진다")
+    void roleChangeMovesMemberBetweenLists() {
+        Store store = storeRepository.findById(storeId).orElseThrow();
+        assertThat(accountIds(store.getEmployeeList())).contains(4L);
+
+        StoreAccount promoted = storeAccountRepository.findByStoreIdAndAccountId(storeId, 4L).orElseThrow();
+        promoted.setRole(Role.MANAGER);
+        StoreAccount demoted = storeAccountRepository.findByStoreIdAndAccountId(storeId, 2L).orElseThrow();
+        demoted.setRole(Role.EMPLOYEE);
+        entityManager.flush();
+        entityManager.refresh(store);
+
+        assertThat(store.getManagerList()).extracting(StoreAccount::getRole).containsOnly(Role.MANAGER);
+        assertThat(accountIds(store.getManagerList())).containsExactlyInAnyOrder(3L, 4L);
+        assertThat(store.getEmployeeList()).extracting(StoreAccount::getRole).containsOnly(Role.EMPLOYEE);
+        assertThat(accountIds(store.getEmployeeList())).containsExactlyInAnyOrder(2L, 5L, 6L);
+    }
+
+    private void persistMember(Store store, long accountId, Role role) {
+        Account account = entityManager.persist(Account.builder().id(accountId).nickname("account" + accountId).build());
+        entityManager.persist(StoreAccount.builder().store(store).account(account).role(role).build());
+    }
+
+    private static List<Long> accountIds(List<StoreAccount> storeAccounts) {
+        return storeAccounts.stream().map(storeAccount -> storeAccount.getAccount().getId()).toList();
+    }
+}
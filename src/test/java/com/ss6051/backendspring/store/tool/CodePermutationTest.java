@@ -0,0 +1,109 @@
+package com.ss6051.backendspring.store.tool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CodePermutationTest {
+
+    private static final int RADIX = CodePermutation.CHARACTERS.length();
+
+    @Test
+    @DisplayName("작은 코드 공간 전체에서 모든 번호가 서로 다른 코드로 대응한다")
+    void bijectionOnReducedSpace() {
+        int[][] sizes = {{36, 36 * 36}, {36 * 36, 36}, {7, 11}, {216, 216}};
+        Random random = new Random(6051);
+        for (int[] size : sizes) {
+            for (int k = 0; k < 3; k++) {
+                CodePermutation permutation = new CodePermutation(key(random), size[0], size[1]);
+                int space = size[0] * size[1];
+                BitSet seen = new BitSet(space);
+                for (long index = 0; index < space; index++) {
+                    long value = decode(permutation.codeAt(index));
+                    assertThat(value).as("size %dx%d index %d", size[0], size[1], index).isBetween(0L, space - 1L);
+                    assertThat(seen.get((int) value)).as("size %dx%d index %d", size[0], size[1], index).isFalse();
+                    seen.set((int) value);
+                }
+                assertThat(seen.cardinality()).isEqualTo(space);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("실제 코드 공간에서 연속 구간과 무작위 표본의 코드가 겹치지 않는다")
+    void noCollisionsInSampledFullSpace() {
+        Random random = new Random(6051);
+        CodePermutation permutation = new CodePermutation(key(random));
+        BitSet seen = new BitSet((int) CodePermutation.SPACE);
+
+        // 발급 순서대로의 첫 구간과 한 바퀴 끝 부분
+        assertDistinct(permutation, seen, 0, 500_000);
+        assertDistinct(permutation, seen, CodePermutation.SPACE - 100_000, CodePermutation.SPACE);
+
+        // 무작위 표본 (구간과 겹치지 않는 번호만)
+        Set<Long> sampled = new HashSet<>();
+        while (sampled.size() < 200_000) {
+            long index = Math.floorMod(random.nextLong(), CodePermutation.SPACE);
+            if (index >= 500_000 && index < CodePermutation.SPACE - 100_000 && sampled.add(index)) {
+                assertDistinct(permutation, seen, index, index + 1);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("코드는 허용 문자로 된 5자리이며 공간 밖의 번호는 거절한다")
+    void codeFormatAndBounds() {
+        CodePermutation permutation = new CodePermutation(key(new Random(6051)));
+        for (long index = 0; index < 10_000; index++) {
+            assertThat(permutation.codeAt(index)).hasSize(CodePermutation.CODE_LENGTH).matches("[0-9a-z]{5}");
+        }
+        assertThatThrownBy(() -> permutation.codeAt(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> permutation.codeAt(CodePermutation.SPACE)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("같은 키는 같은 코드를, 다른 키는 다른 순서를 만든다")
+    void keyDeterminesOrder() {
+        byte[] key = key(new Random(1));
+        CodePermutation first = new CodePermutation(key);
+        CodePermutation second = new CodePermutation(key);
+        CodePermutation other = new CodePermutation(key(new Random(2)));
+        int differing = 0;
+        for (long index = 0; index < 1000; index++) {
+            assertThat(first.codeAt(index)).isEqualTo(second.codeAt(index));
+            if (!first.codeAt(index).equals(other.codeAt(index))) {
+                differing++;
+            }
+        }
+        assertThat(differing).isGreaterThan(990);
+    }
+
+    private static void assertDistinct(CodePermutation permutation, BitSet seen, long fromIndex, long toIndex) {
+        for (long index = fromIndex; index < toIndex; index++) {
+            int value = (int) decode(permutation.codeAt(index));
+            assertThat(seen.get(value)).as("index %d", index).isFalse();
+            seen.set(value);
+        }
+    }
+
+    private static long decode(String code) {
+        long value = 0;
+        for (int i = 0; i < code.length(); i++) {
+            value = value * RADIX + CodePermutation.CHARACTERS.indexOf(code.charAt(i));
+        }
+        return value;
+    }
+
+    private static byte[] key(Random random) {
+        byte[] key = new byte[32];
+        random.nextBytes(key);
+        return key;
+    }
+}
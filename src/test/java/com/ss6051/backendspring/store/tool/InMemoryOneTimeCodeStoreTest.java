@@ -0,0 +1,87 @@
+package com.ss6051.backendspring.store.tool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 짧은 유효 시간으로 코드를 발급해, 만료 시각이 지난 코드가 조회/발급에 쓰이지 않는지 확인한다.
+ * 만료 처리 스레드를 막아 두면 만료된 대응이 맵에 남은 상태(만료 처리가 늦어진 상태)를 만들 수 있다.
+ */
+class InMemoryOneTimeCodeStoreTest {
+
+    private static final long TTL_MILLIS = 100;
+
+    private final CountDownLatch expirationBlocked = new CountDownLatch(1);
+    private final ScheduledExecutorService expirationScheduler = Executors.newSingleThreadScheduledExecutor();
+    private final InMemoryOneTimeCodeStore codeStore = new InMemoryOneTimeCodeStore(expirationScheduler);
+
+    @AfterEach
+    void tearDown() {
+        expirationBlocked.countDown();
+        codeStore.close();
+    }
+
+    @Test
+    @DisplayName("유효 시간이 지나면 만료 처리 전이라도 코드와 매장을 찾을 수 없다")
+    void expiredBindingIsNotFound() throws InterruptedException {
+        blockExpiration();
+        assertThat(codeStore.bindIfAbsent(1L, "aaaaa", System.currentTimeMillis() + TTL_MILLIS)).isEqualTo("aaaaa");
+        assertThat(codeStore.findCode(1L)).isEqualTo("aaaaa");
+        assertThat(codeStore.findStoreId("aaaaa")).isEqualTo(1L);
+
+        Thread.sleep(TTL_MILLIS * 2);
+
+        assertThat(codeStore.findCode(1L)).isNull();
+        assertThat(codeStore.findStoreId("aaaaa")).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 대응은 반환하지 않고 새 코드로 바꾸며, 만료된 코드는 다른 매장이 쓸 수 있다")
+    void expiredBindingIsReplaced() throws InterruptedException {
+        blockExpiration();
+        codeStore.bindIfAbsent(1L, "aaaaa", System.currentTimeMillis() + TTL_MILLIS);
+        // 유효한 동안은 기존 코드를 반환하고, 다른 매장은 같은 코드를 쓸 수 없다
+        assertThat(codeStore.bindIfAbsent(1L, "bbbbb", System.currentTimeMillis() + TTL_MILLIS)).isEqualTo("aaaaa");
+        assertThat(codeStore.bindIfAbsent(2L, "aaaaa", System.currentTimeMillis() + TTL_MILLIS)).isNull();
+
+        Thread.sleep(TTL_MILLIS * 2);
+
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        assertThat(codeStore.bindIfAbsent(1L, "bbbbb", expiresAt)).isEqualTo("bbbbb");
+        assertThat(codeStore.findCode(1L)).isEqualTo("bbbbb");
+        assertThat(codeStore.findStoreId("aaaaa")).isNull();
+        assertThat(codeStore.bindIfAbsent(2L, "aaaaa", expiresAt)).isEqualTo("aaaaa");
+        assertThat(codeStore.findStoreId("aaaaa")).isEqualTo(2L);
+        assertThat(codeStore.findStoreId("bbbbb")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("만료 처리가 돌면 만료된 대응만 지우고 그 뒤에 새로 발급한 코드는 남긴다")
+    void expirationKeepsNewerBinding() throws InterruptedException {
+        codeStore.bindIfAbsent(1L, "aaaaa", System.currentTimeMillis() + TTL_MILLIS);
+        Thread.sleep(TTL_MILLIS * 3);
+
+        assertThat(codeStore.findCode(1L)).isNull();
+        assertThat(codeStore.bindIfAbsent(1L, "bbbbb", System.currentTimeMillis() + 60_000)).isEqualTo("bbbbb");
+        assertThat(codeStore.findCode(1L)).isEqualTo("bbbbb");
+        assertThat(codeStore.findStoreId("bbbbb")).isEqualTo(1L);
+    }
+
+    // 만료 처리 스레드를 테스트가 끝날 때까지 붙잡아 둔다
+    private void blockExpiration() {
+        expirationScheduler.execute(() -> {
+            try {
+                expirationBlocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package com.ss6051.backendspring.store.tool;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 코드 공간이 많이 찬 상태에서 새 일회성 코드 하나를 얻는 비용 벤치마크.
+ * 유효한 코드가 코드 공간(36^5)의 occupancy 비율만큼 있을 때, 기존의 무작위 생성 후 재시도와 순열의 다음 번호를 비교한다.
+ * 무작위 재시도는 빈 코드를 찾을 때까지 평균 1/(1-occupancy)번 뽑는다.
+ * 순열은 유효한 코드가 가장 최근에 발급된 번호들이므로 다음 번호의 코드가 겹치지 않아 한 번에 얻는다.
+ * <p>
+ * 실행: ./gradlew jmh --args="OneTimeCodeBenchmark"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OneTimeCodeBenchmark {
+
+    private static final int RADIX = CodePermutation.CHARACTERS.length();
+
+    @Param({"0.5", "0.9", "0.99", "0.999"})
+    private double occupancy;
+
+    private final SplittableRandom random = new SplittableRandom(6051);
+    private CodePermutation permutation;
+    private BitSet used;
+    private long counter;
+
+    @Setup
+    public void setUp() {
+        byte[] key = new byte[32];
+        new Random(6051).nextBytes(key);
+        permutation = new CodePermutation(key);
+
+        // 무작위 재시도에서 이미 쓰이고 있는 코드. 측정 중에 새로 쓰는 코드는 표시하지 않아 차 있는 비율이 유지된다
+        used = new BitSet((int) CodePermutation.SPACE);
+        long target = (long) (CodePermutation.SPACE * occupancy);
+        SplittableRandom fill = new SplittableRandom(1);
+        for (long filled = 0; filled < target; ) {
+            int value = (int) fill.nextLong(CodePermutation.SPACE);
+            if (!used.get(value)) {
+                used.set(value);
+                filled++;
+            }
+        }
+        counter = 0;
+    }
+
+    @Benchmark
+    public String randomRetry() {
+        long value;
+        do {
+            value = random.nextLong(CodePermutation.SPACE);
+        } while (used.get((int) value));
+        return encode(value);
+    }
+
+    @Benchmark
+    public String permutation() {
+        return permutation.codeAt(Math.floorMod(counter++, CodePermutation.SPACE));
+    }
+
+    private static String encode(long value) {
+        char[] code = new char[CodePermutation.CODE_LENGTH];
+        for (int i = CodePermutation.CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = CodePermutation.CHARACTERS.charAt((int) (value % RADIX));
+            value /= RADIX;
+        }
+        return new String(code);
+    }
+}
@@ -0,0 +1,91 @@
+package com.ss6051.backendspring.store.tool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OneTimeCodeGeneratorStressTest {
+
+    private static final int STORE_COUNT = 1000;
+    private static final int CALLS_PER_STORE = 8;
+    private static final int THREADS = 32;
+    private static final String EXPIRATION_THREAD_NAME = "one-time-code-expiration";
+
+    private final InMemoryOneTimeCodeStore codeStore = new InMemoryOneTimeCodeStore();
+    private final OneTimeCodeGenerator generator = new OneTimeCodeGenerator(codeStore);
+
+    @AfterEach
+    void tearDown() {
+        codeStore.close();
+    }
+
+    @Test
+    @DisplayName("수천 건의 동시 발급/조회에서도 매장마다 코드는 하나이고 두 매장이 같은 코드를 쓰지 않는다")
+    void concurrentGenerateAndLookup() throws Exception {
+        long expirationThreadsBefore = countExpirationThreads();
+        Map<Long, Set<String>> codesByStore = new ConcurrentHashMap<>();
+        Set<String> misresolved = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int call = 0; call < CALLS_PER_STORE; call++) {
+                for (long storeId = 1; storeId <= STORE_COUNT; storeId++) {
+                    final long id = storeId;
+                    futures.add(executor.submit(() -> {
+                        startGate.await();
+                        String code = generator.generateUniqueCode(id);
+                        codesByStore.computeIfAbsent(id, key -> ConcurrentHashMap.newKeySet()).add(code);
+                        // 발급 직후 다른 스레드의 발급과 섞여 조회해도 자기 매장으로 해석되어야 한다
+                        Long resolved = generator.getStoreIdWithCode(code);
+                        if (resolved == null || resolved != id) {
+                            misresolved.add(code);
+                        }
+                        return null;
+                    }));
+                }
+            }
+            startGate.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(misresolved).isEmpty();
+        assertThat(codesByStore).hasSize(STORE_COUNT);
+
+        Map<String, Long> storeByCode = new HashMap<>();
+        codesByStore.forEach((storeId, codes) -> {
+            assertThat(codes).as("store %d", storeId).hasSize(1);
+            Long previous = storeByCode.put(codes.iterator().next(), storeId);
+            assertThat(previous).as("code shared by stores %s and %d", previous, storeId).isNull();
+        });
+        assertThat(storeByCode).hasSize(STORE_COUNT);
+
+        // 만료는 코드 수와 관계없이 저장소당 하나의 스레드가 처리한다
+        assertThat(countExpirationThreads() - expirationThreadsBefore).isEqualTo(1);
+    }
+
+    private static long countExpirationThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> EXPIRATION_THREAD_NAME.equals(thread.getName()) && thread.isAlive())
+                .count();
+    }
+}